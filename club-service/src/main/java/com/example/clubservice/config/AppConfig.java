@@ -1,20 +1,29 @@
 package com.example.clubservice.config;
 
-import org.modelmapper.ModelMapper;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
 @Configuration
 public class AppConfig {
 
     @Bean
-    public ModelMapper modelMapper() {
-        return new ModelMapper();
+    public RestClient restClient(@Value("${club.service.statistics.connect-timeout:1000}") int connectTimeout,
+                                 @Value("${club.service.statistics.read-timeout:2000}") int readTimeout) {
+        // Calls abandoned at the statistics deadline still release their thread once these expire
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout(readTimeout);
+        return RestClient.builder().requestFactory(requestFactory).build();
     }
 
-    @Bean
-    public RestClient restClient() {
-        return RestClient.builder().build();
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService statisticsExecutor(@Value("${club.service.statistics.threads:8}") int threads) {
+        return Executors.newFixedThreadPool(threads);
     }
-}
\ No newline at end of file
+}
@@ -4,14 +4,19 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.clubservice.dto.ClubDTO;
@@ -23,6 +28,12 @@ public class ClubController {
     @Autowired
     private ClubService clubService;
 
+    @Value("${club.service.dashboard.cache-ttl:10}")
+    private long dashboardTtlSeconds;
+
+    @Value("${club.service.dashboard.partial-cache-ttl:2}")
+    private long partialDashboardTtlSeconds;
+
     @GetMapping("/")
     public Map<String, String> home() {
         Map<String, String> response = new HashMap<>();
@@ -49,6 +60,18 @@ public class ClubController {
         return club.orElse(null);
     }
 
+    @GetMapping("/clubs/categories")
+    public Map<String, Object> getCategoryFacets() {
+        return clubService.getCategoryFacets();
+    }
+
+    @GetMapping("/clubs/category/{category}")
+    public Map<String, Object> getClubsByCategory(@PathVariable String category,
+                                                  @RequestParam(defaultValue = "0") int offset,
+                                                  @RequestParam(defaultValue = "${club.service.listing.default-limit:20}") int limit) {
+        return clubService.getClubsByCategory(category, offset, limit);
+    }
+
     @GetMapping("/clubs/validate/{name}")
     public Map<String, Object> validateClub(@PathVariable String name) {
         boolean exists = clubService.validateClubExists(name);
@@ -75,6 +98,16 @@ public class ClubController {
         return response;
     }
 
+    // Browsers and proxies may reuse the document for as long as this service caches it, which is shorter when partial
+    @GetMapping("/clubs/{id}/dashboard")
+    public ResponseEntity<Map<String, Object>> getClubDashboard(@PathVariable int id) {
+        Map<String, Object> dashboard = clubService.getClubDashboard(id);
+        long maxAge = "partial".equals(dashboard.get("status")) ? partialDashboardTtlSeconds : dashboardTtlSeconds;
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(maxAge, TimeUnit.SECONDS))
+                .body(dashboard);
+    }
+
     @GetMapping("/clubs/{name}/statistics")
     public Map<String, Object> getClubStatistics(@PathVariable String name) {
         return clubService.getClubStatistics(name);
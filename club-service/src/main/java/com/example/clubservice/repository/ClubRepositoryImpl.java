@@ -1,12 +1,15 @@
 package com.example.clubservice.repository;
 
-
+import java.sql.PreparedStatement;
+import java.sql.Statement;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import com.example.clubservice.model.Club;
@@ -59,7 +62,18 @@ public class ClubRepositoryImpl implements ClubRepository {
     @Override
     public Club save(Club club) {
         String sql = "INSERT INTO clubs (name, description, category) VALUES (?, ?, ?)";
-        jdbcTemplate.update(sql, club.get_Name(), club.get_Description(), club.get_Category(),  club.get_Id());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, club.get_Name());
+            ps.setString(2, club.get_Description());
+            ps.setString(3, club.get_Category());
+            return ps;
+        }, keyHolder);
+        Number key = keyHolder.getKey();
+        if (key != null) {
+            club.set_Id(key.intValue());
+        }
         return club;
     }
 
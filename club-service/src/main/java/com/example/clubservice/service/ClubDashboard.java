@@ -0,0 +1,162 @@
+package com.example.clubservice.service;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import com.example.clubservice.dto.ClubDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Everything a club page shows, assembled in one call: members, the member count and upcoming
+ * events are fetched by club ID in parallel, then registration totals for those events. All
+ * calls share one deadline, a failed section is marked rather than failing the page, and
+ * documents are cached briefly per club.
+ */
+@Component
+public class ClubDashboard {
+
+    private static final String MEMBER_SERVICE_URL = "http://localhost:8082";
+    private static final String EVENT_SERVICE_URL = "http://localhost:8083";
+    private static final String REGISTRATION_SERVICE_URL = "http://localhost:8084";
+
+    private final RestClient restClient;
+    private final ExecutorService statisticsExecutor;
+    private final Cache<Integer, Map<String, Object>> documents;
+
+    @Value("${club.service.dashboard.timeout:1500}")
+    private long timeoutMs;
+
+    @Value("${club.service.dashboard.max-members:100}")
+    private int maxMembers;
+
+    @Value("${club.service.dashboard.max-events:20}")
+    private int maxEvents;
+
+    @Autowired
+    public ClubDashboard(RestClient restClient, ExecutorService statisticsExecutor,
+                         @Value("${club.service.dashboard.cache-ttl:10}") long ttlSeconds,
+                         @Value("${club.service.dashboard.partial-cache-ttl:2}") long partialTtlSeconds,
+                         @Value("${club.service.dashboard.max-size:10000}") long maxSize) {
+        this.restClient = restClient;
+        this.statisticsExecutor = statisticsExecutor;
+        this.documents = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new PartialResultExpiry(ttlSeconds, partialTtlSeconds))
+                .build();
+    }
+
+    // Concurrent requests for the same club wait on a single fan-out
+    public Map<String, Object> forClub(int clubId, ClubDTO club) {
+        return documents.get(clubId, id -> assemble(id, club));
+    }
+
+    public void invalidate(int clubId) {
+        documents.invalidate(clubId);
+    }
+
+    private Map<String, Object> assemble(int clubId, ClubDTO club) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        CompletableFuture<List<Map<String, Object>>> members = call(deadline, () -> restClient.get()
+                .uri(MEMBER_SERVICE_URL + "/members/club/id/{clubId}?limit={limit}", clubId, maxMembers)
+                .retrieve()
+                .body(new ParameterizedTypeReference<List<Map<String, Object>>>() {}));
+        CompletableFuture<Map<String, Object>> memberStatistics = call(deadline, () -> restClient.get()
+                .uri(MEMBER_SERVICE_URL + "/members/club/id/{clubId}/statistics", clubId)
+                .retrieve()
+                .body(new ParameterizedTypeReference<Map<String, Object>>() {}));
+        CompletableFuture<List<Map<String, Object>>> events = call(deadline, () -> restClient.get()
+                .uri(EVENT_SERVICE_URL + "/events/upcoming?clubId={clubId}&limit={limit}", clubId, maxEvents)
+                .retrieve()
+                .body(new ParameterizedTypeReference<List<Map<String, Object>>>() {}));
+        // Totals need the event IDs, so this call starts once the events arrive and gets whatever time is left
+        CompletableFuture<Map<String, Map<String, Object>>> registrations = events.thenCompose(upcoming -> {
+            List<Object> eventIds = upcoming.stream()
+                    .map(event -> event.get("_Id"))
+                    .filter(id -> id instanceof Number && ((Number) id).longValue() != 0)
+                    .collect(Collectors.toList());
+            if (eventIds.isEmpty()) {
+                return CompletableFuture.completedFuture(Collections.emptyMap());
+            }
+            return call(deadline, () -> restClient.post()
+                    .uri(REGISTRATION_SERVICE_URL + "/registrations/event/statistics/batch")
+                    .body(eventIds)
+                    .retrieve()
+                    .body(new ParameterizedTypeReference<Map<String, Map<String, Object>>>() {}));
+        });
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        Map<String, Map<String, Object>> sections = new LinkedHashMap<>();
+        document.put("club", club);
+
+        document.put("members", section(sections, "members", members));
+        Map<String, Object> statistics = section(sections, "memberCount", memberStatistics);
+        document.put("memberCount", statistics != null ? statistics.get("memberCount") : null);
+
+        document.put("upcomingEvents", section(sections, "upcomingEvents", events));
+
+        Map<String, Map<String, Object>> byEvent = section(sections, "registrations", registrations);
+        if (events.isCompletedExceptionally()) {
+            // Never attempted: it needs the upcoming events
+            sections.get("registrations").put("status", "skipped");
+        }
+        if (byEvent != null) {
+            long registered = 0;
+            long total = 0;
+            for (Map<String, Object> counts : byEvent.values()) {
+                registered += counts.get("count") instanceof Number ? ((Number) counts.get("count")).longValue() : 0;
+                total += counts.get("total") instanceof Number ? ((Number) counts.get("total")).longValue() : 0;
+            }
+            Map<String, Object> totals = new LinkedHashMap<>();
+            totals.put("registered", registered);
+            totals.put("total", total);
+            totals.put("byEvent", byEvent);
+            document.put("registrations", totals);
+        } else {
+            document.put("registrations", null);
+        }
+
+        boolean complete = sections.values().stream().allMatch(marker -> "ok".equals(marker.get("status")));
+        document.put("sections", sections);
+        document.put("status", complete ? "data_retrieved" : "partial");
+        document.put("generatedAt", Instant.now());
+        return document;
+    }
+
+    // Bounds the call by the time left until the page's deadline
+    private <T> CompletableFuture<T> call(long deadline, Supplier<T> request) {
+        long remaining = Math.max(0, deadline - System.nanoTime());
+        return CompletableFuture.supplyAsync(request, statisticsExecutor).orTimeout(remaining, TimeUnit.NANOSECONDS);
+    }
+
+    // Waits for the section's call (bounded by the deadline) and records how it ended
+    private static <T> T section(Map<String, Map<String, Object>> sections, String name, CompletableFuture<T> source) {
+        Map<String, Object> marker = new LinkedHashMap<>();
+        sections.put(name, marker);
+        try {
+            T value = source.join();
+            marker.put("status", value != null ? "ok" : "error");
+            return value;
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            marker.put("status", cause instanceof TimeoutException ? "timeout" : "error");
+            return null;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.clubservice.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.clubservice.model.Club;
+import com.example.clubservice.repository.ClubRepository;
+
+/**
+ * Every club held in memory by ID and by case-insensitive name, so the name lookups and
+ * validations the other services make on each club-scoped call never reach the database.
+ * A miss still falls back to a query, which covers rows written around this service.
+ * Club IDs are also grouped by case-insensitive category to serve faceted listings.
+ */
+@Component
+public class ClubIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ClubIndex.class);
+
+    private final ClubRepository clubRepository;
+    private final ConcurrentHashMap<Integer, Club> byId = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Club> byName = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Category> byCategory = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    // Clubs written while the initial load is querying the table; the load must not overwrite them
+    private Set<Integer> touchedDuringLoad;
+
+    @Autowired
+    public ClubIndex(ClubRepository clubRepository) {
+        this.clubRepository = clubRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (writeLock) {
+            touchedDuringLoad = new HashSet<>();
+        }
+        List<Club> all;
+        try {
+            all = clubRepository.findAll();
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                touchedDuringLoad = null;
+            }
+            throw e;
+        }
+        synchronized (writeLock) {
+            for (Club club : all) {
+                if (!touchedDuringLoad.contains(club.get_Id())) {
+                    index(club);
+                }
+            }
+            touchedDuringLoad = null;
+        }
+        log.info("Club index loaded with {} clubs", byId.size());
+    }
+
+    public Optional<Club> findById(int id) {
+        Club club = byId.get(id);
+        if (club != null) {
+            return Optional.of(club);
+        }
+        Optional<Club> loaded = clubRepository.findById(id);
+        loaded.ifPresent(this::putIfAbsent);
+        return loaded;
+    }
+
+    public Optional<Club> findByName(String name) {
+        String key = normalize(name);
+        if (key == null) {
+            return Optional.empty();
+        }
+        Club club = byName.get(key);
+        if (club != null) {
+            return Optional.of(club);
+        }
+        // Trimmed like the key; the column's case-insensitive collation covers the rest
+        Optional<Club> loaded = clubRepository.findByName(name.trim());
+        loaded.ifPresent(this::putIfAbsent);
+        return loaded;
+    }
+
+    public boolean existsByName(String name) {
+        return findByName(name).isPresent();
+    }
+
+    // Club count per category, keyed by the category's spelling on its first club and sorted by it
+    public Map<String, Integer> categoryCounts() {
+        Map<String, Integer> counts = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Category category : byCategory.values()) {
+            int size = category.clubIds.size();
+            if (size > 0) {
+                counts.put(category.name, size);
+            }
+        }
+        return counts;
+    }
+
+    public int countInCategory(String category) {
+        String key = normalize(category);
+        Category entry = key != null ? byCategory.get(key) : null;
+        return entry != null ? entry.clubIds.size() : 0;
+    }
+
+    // A page of the category's clubs in ID order
+    public List<Club> findByCategory(String category, int offset, int limit) {
+        String key = normalize(category);
+        Category entry = key != null ? byCategory.get(key) : null;
+        List<Club> page = new ArrayList<>();
+        if (entry == null) {
+            return page;
+        }
+        Iterator<Integer> ids = entry.clubIds.iterator();
+        for (int skipped = 0; skipped < offset && ids.hasNext(); skipped++) {
+            ids.next();
+        }
+        while (ids.hasNext() && page.size() < limit) {
+            Club club = byId.get(ids.next());
+            if (club != null) {
+                page.add(club);
+            }
+        }
+        return page;
+    }
+
+    public void put(Club club) {
+        synchronized (writeLock) {
+            unindex(club.get_Id());
+            index(club);
+            if (touchedDuringLoad != null) {
+                touchedDuringLoad.add(club.get_Id());
+            }
+        }
+    }
+
+    public void remove(int clubId) {
+        synchronized (writeLock) {
+            unindex(clubId);
+            if (touchedDuringLoad != null) {
+                touchedDuringLoad.add(clubId);
+            }
+        }
+    }
+
+    // A row found by the fallback query must not replace a newer write made meanwhile
+    private void putIfAbsent(Club club) {
+        synchronized (writeLock) {
+            if (!byId.containsKey(club.get_Id()) && (touchedDuringLoad == null || !touchedDuringLoad.contains(club.get_Id()))) {
+                index(club);
+            }
+        }
+    }
+
+    private void index(Club club) {
+        byId.put(club.get_Id(), club);
+        String key = normalize(club.get_Name());
+        if (key != null) {
+            byName.put(key, club);
+        }
+        String categoryKey = normalize(club.get_Category());
+        if (categoryKey != null) {
+            byCategory.computeIfAbsent(categoryKey, k -> new Category(club.get_Category().trim())).clubIds.add(club.get_Id());
+        }
+    }
+
+    private void unindex(int clubId) {
+        Club previous = byId.remove(clubId);
+        String key = previous != null ? normalize(previous.get_Name()) : null;
+        if (key != null) {
+            // Names differing only in case share a key; leave it if another club now holds it
+            byName.remove(key, previous);
+        }
+        String categoryKey = previous != null ? normalize(previous.get_Category()) : null;
+        Category category = categoryKey != null ? byCategory.get(categoryKey) : null;
+        if (category != null) {
+            category.clubIds.remove(clubId);
+            if (category.clubIds.isEmpty()) {
+                byCategory.remove(categoryKey, category);
+            }
+        }
+    }
+
+    private static final class Category {
+        final String name;
+        final ConcurrentSkipListSet<Integer> clubIds = new ConcurrentSkipListSet<>();
+
+        Category(String name) {
+            this.name = name;
+        }
+    }
+
+    static String normalize(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
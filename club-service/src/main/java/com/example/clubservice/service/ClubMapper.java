@@ -0,0 +1,30 @@
+package com.example.clubservice.service;
+
+import org.springframework.stereotype.Component;
+
+import com.example.clubservice.dto.ClubDTO;
+import com.example.clubservice.model.Club;
+
+// Field-by-field copies between Club and ClubDTO
+@Component
+public class ClubMapper {
+
+    public ClubDTO toDto(Club club) {
+        if (club == null) {
+            return null;
+        }
+        ClubDTO dto = new ClubDTO();
+        dto.set_Id(club.get_Id());
+        dto.set_Name(club.get_Name());
+        dto.set_Description(club.get_Description());
+        dto.set_Category(club.get_Category());
+        return dto;
+    }
+
+    public Club toEntity(ClubDTO dto) {
+        if (dto == null) {
+            return null;
+        }
+        return new Club(dto.get_Id(), dto.get_Name(), dto.get_Description(), dto.get_Category());
+    }
+}
@@ -10,9 +10,12 @@ public interface ClubService {
     List<ClubDTO> getAllClubs();
     Optional<ClubDTO> getClubById(int id);
     Optional<ClubDTO> getClubByName(String name);
+    Map<String, Object> getCategoryFacets();
+    Map<String, Object> getClubsByCategory(String category, int offset, int limit);
     boolean validateClubExists(String name);
     ClubDTO createClub(ClubDTO clubDTO);
     ClubDTO updateClub(int id, ClubDTO clubDTO);
     void deleteClub(int id);
     Map<String, Object> getClubStatistics(String name);
+    Map<String, Object> getClubDashboard(int id);
 }
\ No newline at end of file
@@ -1,15 +1,17 @@
 package com.example.clubservice.service;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired; 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClient;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.example.clubservice.dto.ClubDTO;
 import com.example.clubservice.model.Club;
@@ -19,100 +21,126 @@ import com.example.clubservice.repository.ClubRepository;
 public class ClubServiceImpl implements ClubService {
 
     private final ClubRepository clubRepository;
-    private final ModelMapper modelMapper;
-    private final RestClient restClient; 
+    private final ClubMapper clubMapper;
+    private final ClubStatistics clubStatistics;
+    private final ClubIndex clubIndex;
+    private final ClubDashboard clubDashboard;
 
-    private final String memberServiceUrl = "http://localhost:8082";
-    private final String eventServiceUrl = "http://localhost:8083";
+    @Value("${club.service.listing.max-limit:100}")
+    private int maxListingLimit;
 
     @Autowired
-    public ClubServiceImpl(ClubRepository clubRepository, ModelMapper modelMapper, RestClient restClient) {
+    public ClubServiceImpl(ClubRepository clubRepository, ClubMapper clubMapper, ClubStatistics clubStatistics,
+                           ClubIndex clubIndex, ClubDashboard clubDashboard) {
         this.clubRepository = clubRepository;
-        this.modelMapper = modelMapper;
-        this.restClient = restClient; 
+        this.clubMapper = clubMapper;
+        this.clubStatistics = clubStatistics;
+        this.clubIndex = clubIndex;
+        this.clubDashboard = clubDashboard;
     }
 
-    // ... (getAllClubs, getClubById, etc. remain the same) ...
-
     @Override
     public List<ClubDTO> getAllClubs() {
         return clubRepository.findAll()
                 .stream()
-                .map(club -> modelMapper.map(club, ClubDTO.class))
+                .map(clubMapper::toDto)
                 .collect(Collectors.toList());
     }
 
     @Override
     public Optional<ClubDTO> getClubById(int id) {
-        return clubRepository.findById(id).map(c -> modelMapper.map(c, ClubDTO.class));
+        return clubIndex.findById(id).map(clubMapper::toDto);
     }
 
     @Override
     public Optional<ClubDTO> getClubByName(String name) {
-        return clubRepository.findByName(name).map(c -> modelMapper.map(c, ClubDTO.class));
+        return clubIndex.findByName(name).map(clubMapper::toDto);
+    }
+
+    // Served from the in-memory category index; the clubs table is not read
+    @Override
+    public Map<String, Object> getCategoryFacets() {
+        Map<String, Integer> counts = clubIndex.categoryCounts();
+        List<Map<String, Object>> categories = counts.entrySet().stream().map(entry -> {
+            Map<String, Object> facet = new LinkedHashMap<>();
+            facet.put("category", entry.getKey());
+            facet.put("count", entry.getValue());
+            return facet;
+        }).collect(Collectors.toList());
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("total", counts.values().stream().mapToInt(Integer::intValue).sum());
+        response.put("categories", categories);
+        return response;
+    }
+
+    @Override
+    public Map<String, Object> getClubsByCategory(String category, int offset, int limit) {
+        if (offset < 0 || limit < 1 || limit > maxListingLimit) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Offset must be at least 0 and limit between 1 and " + maxListingLimit);
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("category", category);
+        response.put("total", clubIndex.countInCategory(category));
+        response.put("offset", offset);
+        response.put("limit", limit);
+        response.put("clubs", clubIndex.findByCategory(category, offset, limit).stream()
+                .map(clubMapper::toDto)
+                .collect(Collectors.toList()));
+        return response;
     }
 
     @Override
     public boolean validateClubExists(String name) {
-        return clubRepository.existsByName(name);
+        return clubIndex.existsByName(name);
     }
 
     @Override
     public ClubDTO createClub(ClubDTO clubDTO) {
-        Club club = modelMapper.map(clubDTO, Club.class);
+        Club club = clubMapper.toEntity(clubDTO);
         Club savedClub = clubRepository.save(club);
-        return modelMapper.map(savedClub, ClubDTO.class);
+        clubIndex.put(savedClub);
+        return clubMapper.toDto(savedClub);
     }
     
     @Override
     public ClubDTO updateClub(int id, ClubDTO clubDTO) {
-        Club club = modelMapper.map(clubDTO, Club.class);
+        Club club = clubMapper.toEntity(clubDTO);
         club.set_Id(id);
+        Optional<Club> before = clubRepository.findById(id);
         Club updatedClub = clubRepository.update(club);
-        return modelMapper.map(updatedClub, ClubDTO.class);
+        if (before.isPresent()) {
+            clubIndex.put(updatedClub);
+        }
+        clubStatistics.invalidate(id);
+        clubDashboard.invalidate(id);
+        return clubMapper.toDto(updatedClub);
     }
     
     @Override
     public void deleteClub(int id) {
         clubRepository.deleteById(id);
+        clubIndex.remove(id);
+        clubStatistics.invalidate(id);
+        clubDashboard.invalidate(id);
     }
 
+    @Override
+    public Map<String, Object> getClubDashboard(int id) {
+        Club club = clubIndex.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Club " + id + " not found"));
+        return clubDashboard.forClub(id, clubMapper.toDto(club));
+    }
 
     @Override
     public Map<String, Object> getClubStatistics(String name) {
-        Map<String, Object> stats = new HashMap<>();
-        if (!clubRepository.existsByName(name)) {
+        Optional<Club> club = clubIndex.findByName(name);
+        if (club.isEmpty()) {
+            Map<String, Object> stats = new HashMap<>();
             stats.put("status", "club_not_found");
             return stats;
         }
-
-        stats.put("clubName", name);
-
-   
-        try {
-            // Assumes MemberService returns a Map like {"memberCount": 50}
-            Map<String, Integer> memberStats = restClient.get()
-                    .uri(memberServiceUrl + "/members/club/{clubName}/statistics", name)
-                    .retrieve()
-                    .body(Map.class);
-            stats.put("memberCount", memberStats.getOrDefault("memberCount", 0));
-        } catch (Exception e) {
-            stats.put("memberCount", "Error: MemberService unavailable");
-        }
-
-        
-        try {
-            // Assumes EventService returns a Map like {"eventCount": 10}
-            Map<String, Integer> eventStats = restClient.get()
-                    .uri(eventServiceUrl + "/events/club/{clubName}/statistics", name)
-                    .retrieve()
-                    .body(Map.class);
-            stats.put("eventCount", eventStats.getOrDefault("eventCount", 0));
-        } catch (Exception e) {
-            stats.put("eventCount", "Error: EventService unavailable");
-        }
-        
-        stats.put("status", "data_retrieved");
-        return stats;
+        // Member and event counts are fetched concurrently under one deadline and cached briefly
+        return clubStatistics.forClub(club.get().get_Id(), club.get().get_Name());
     }
-}
\ No newline at end of file
+}
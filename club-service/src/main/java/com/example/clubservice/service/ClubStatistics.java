@@ -0,0 +1,154 @@
+package com.example.clubservice.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Club statistics gathered from member-service and event-service in parallel under one
+ * deadline. Each field reports whether it is fresh, a stale last-known value, or unavailable,
+ * and whole results are cached briefly per club so repeated dashboard loads share one fan-out.
+ */
+@Component
+public class ClubStatistics {
+
+    private static final String MEMBER_SERVICE_URL = "http://localhost:8082";
+    private static final String EVENT_SERVICE_URL = "http://localhost:8083";
+
+    private final RestClient restClient;
+    private final ExecutorService statisticsExecutor;
+    private final Cache<Integer, Map<String, Object>> results;
+    // Last successfully fetched value and time of every field, used when a later fetch fails
+    private final Cache<Integer, Map<String, Reading>> lastKnown;
+    private final Duration maxStale;
+
+    @Value("${club.service.statistics.timeout:1500}")
+    private long timeoutMs;
+
+    @Autowired
+    public ClubStatistics(RestClient restClient, ExecutorService statisticsExecutor,
+                          @Value("${club.service.statistics.cache-ttl:30}") long ttlSeconds,
+                          @Value("${club.service.statistics.partial-cache-ttl:5}") long partialTtlSeconds,
+                          @Value("${club.service.statistics.max-stale:3600}") long maxStaleSeconds,
+                          @Value("${club.service.statistics.max-size:10000}") long maxSize) {
+        this.restClient = restClient;
+        this.statisticsExecutor = statisticsExecutor;
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new PartialResultExpiry(ttlSeconds, partialTtlSeconds))
+                .build();
+        this.maxStale = Duration.ofSeconds(maxStaleSeconds);
+        this.lastKnown = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(maxStale)
+                .build();
+    }
+
+    // Concurrent requests for the same club wait on a single fan-out
+    public Map<String, Object> forClub(int clubId, String clubName) {
+        return results.get(clubId, id -> fetch(id, clubName));
+    }
+
+    public void invalidate(int clubId) {
+        results.invalidate(clubId);
+        lastKnown.invalidate(clubId);
+    }
+
+    private Map<String, Object> fetch(int clubId, String clubName) {
+        CompletableFuture<Map<String, Object>> members = call(MEMBER_SERVICE_URL + "/members/club/id/{clubId}/statistics", clubId);
+        CompletableFuture<Map<String, Object>> events = call(EVENT_SERVICE_URL + "/events/club/id/{clubId}/statistics", clubId);
+        try {
+            CompletableFuture.allOf(members, events).get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // Whatever finished in time is used below; each field reports its own outcome
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("clubId", clubId);
+        stats.put("clubName", clubName);
+        Map<String, Object> fields = new LinkedHashMap<>();
+        Map<String, Reading> known = lastKnown.get(clubId, id -> new ConcurrentHashMap<>());
+        boolean complete = true;
+        complete &= field(stats, fields, known, "memberCount", members);
+        complete &= field(stats, fields, known, "eventCount", events);
+        complete &= field(stats, fields, known, "upcomingEventCount", events);
+        stats.put("fields", fields);
+        stats.put("status", complete ? "data_retrieved" : "partial");
+        stats.put("generatedAt", Instant.now());
+        return stats;
+    }
+
+    private CompletableFuture<Map<String, Object>> call(String uri, int clubId) {
+        return CompletableFuture.supplyAsync(() -> {
+            Map<String, Object> body = restClient.get().uri(uri, clubId).retrieve().body(Map.class);
+            if (body == null) {
+                throw new IllegalStateException("Empty response from " + uri);
+            }
+            return body;
+        }, statisticsExecutor);
+    }
+
+    // Puts the field's value and its marker; returns whether the value is fresh
+    private boolean field(Map<String, Object> stats, Map<String, Object> fields, Map<String, Reading> known,
+                                 String name, CompletableFuture<Map<String, Object>> source) {
+        Map<String, Object> marker = new LinkedHashMap<>();
+        String failure = null;
+        if (!source.isDone()) {
+            failure = "timeout";
+        } else if (source.isCompletedExceptionally()) {
+            failure = "error";
+        } else {
+            Object value = source.join().get(name);
+            if (value == null) {
+                failure = "missing";
+            } else {
+                Reading reading = new Reading(value, Instant.now());
+                known.put(name, reading);
+                stats.put(name, value);
+                marker.put("status", "fresh");
+                marker.put("asOf", reading.asOf);
+                fields.put(name, marker);
+                return true;
+            }
+        }
+        Reading previous = known.get(name);
+        if (previous != null && previous.asOf.isBefore(Instant.now().minus(maxStale))) {
+            previous = null;
+        }
+        stats.put(name, previous != null ? previous.value : null);
+        marker.put("status", previous != null ? "stale" : "unavailable");
+        marker.put("reason", failure);
+        if (previous != null) {
+            marker.put("asOf", previous.asOf);
+        }
+        fields.put(name, marker);
+        return false;
+    }
+
+    private static final class Reading {
+        final Object value;
+        final Instant asOf;
+
+        Reading(Object value, Instant asOf) {
+            this.value = value;
+            this.asOf = asOf;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.clubservice.service;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Expires cached fan-out results sooner when they are marked partial, so a downstream
+ * service that recovers shows up quickly while complete results are reused for longer.
+ */
+final class PartialResultExpiry implements Expiry<Integer, Map<String, Object>> {
+
+    private final long ttlNanos;
+    private final long partialTtlNanos;
+
+    PartialResultExpiry(long ttlSeconds, long partialTtlSeconds) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.partialTtlNanos = TimeUnit.SECONDS.toNanos(partialTtlSeconds);
+    }
+
+    @Override
+    public long expireAfterCreate(Integer clubId, Map<String, Object> result, long currentTime) {
+        return "partial".equals(result.get("status")) ? partialTtlNanos : ttlNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(Integer clubId, Map<String, Object> result, long currentTime, long currentDuration) {
+        return expireAfterCreate(clubId, result, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(Integer clubId, Map<String, Object> result, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.clubservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import com.example.clubservice.dto.ClubDTO;
+import com.example.clubservice.model.Club;
+
+// ClubMapper must copy exactly what ModelMapper used to copy
+class ClubMapperTest {
+
+    private final ClubMapper mapper = new ClubMapper();
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    @Test
+    void toDtoMatchesModelMapper() {
+        Club club = new Club(7, "Chess", "Weekly games", "Games");
+
+        ClubDTO expected = modelMapper.map(club, ClubDTO.class);
+        ClubDTO actual = mapper.toDto(club);
+
+        assertEquals(expected.get_Id(), actual.get_Id());
+        assertEquals(expected.get_Name(), actual.get_Name());
+        assertEquals(expected.get_Description(), actual.get_Description());
+        assertEquals(expected.get_Category(), actual.get_Category());
+    }
+
+    @Test
+    void toEntityMatchesModelMapper() {
+        ClubDTO dto = new ClubDTO();
+        dto.set_Id(7);
+        dto.set_Name("Chess");
+        dto.set_Description("Weekly games");
+        dto.set_Category("Games");
+
+        Club expected = modelMapper.map(dto, Club.class);
+        Club actual = mapper.toEntity(dto);
+
+        assertEquals(expected.get_Id(), actual.get_Id());
+        assertEquals(expected.get_Name(), actual.get_Name());
+        assertEquals(expected.get_Description(), actual.get_Description());
+        assertEquals(expected.get_Category(), actual.get_Category());
+    }
+
+    @Test
+    void nullFieldsStayNull() {
+        ClubDTO actual = mapper.toDto(new Club(1, "Chess", null, null));
+
+        assertNull(actual.get_Description());
+        assertNull(actual.get_Category());
+    }
+
+    @Test
+    void nullMapsToNull() {
+        assertNull(mapper.toDto(null));
+        assertNull(mapper.toEntity(null));
+    }
+}
@@ -0,0 +1,79 @@
+-- Brings databases created by an earlier setup-mysql-databases.sql up to the current schema.
+-- Safe to run more than once: every step checks information_schema before changing anything.
+CREATE DATABASE IF NOT EXISTS eventdb;
+USE eventdb;
+
+DROP PROCEDURE IF EXISTS add_column_if_missing;
+DROP PROCEDURE IF EXISTS add_index_if_missing;
+DELIMITER //
+CREATE PROCEDURE add_column_if_missing(IN db VARCHAR(64), IN tbl VARCHAR(64), IN col VARCHAR(64), IN definition TEXT)
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = db AND table_name = tbl AND column_name = col) THEN
+        SET @ddl = CONCAT('ALTER TABLE ', db, '.', tbl, ' ADD COLUMN ', col, ' ', definition);
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END //
+CREATE PROCEDURE add_index_if_missing(IN db VARCHAR(64), IN tbl VARCHAR(64), IN idx VARCHAR(64), IN definition TEXT)
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                   WHERE table_schema = db AND table_name = tbl AND index_name = idx) THEN
+        SET @ddl = CONCAT('ALTER TABLE ', db, '.', tbl, ' ADD ', definition);
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END //
+DELIMITER ;
+
+-- 1. Clubs
+CALL add_index_if_missing('clubdb', 'clubs', 'idx_clubs_name', 'INDEX idx_clubs_name (name)');
+
+-- 2. Members
+CREATE TABLE IF NOT EXISTS memberdb.member_outbox (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    member_id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 3. Events; existing rows get the schema defaults for capacity and duration
+CALL add_column_if_missing('eventdb', 'events', 'capacity', 'INT NOT NULL DEFAULT 100');
+CALL add_column_if_missing('eventdb', 'events', 'duration_minutes', 'INT NOT NULL DEFAULT 60');
+CALL add_column_if_missing('eventdb', 'events', 'series_id', 'BIGINT');
+CALL add_column_if_missing('eventdb', 'events', 'series_occurrence', 'DATETIME');
+CALL add_index_if_missing('eventdb', 'events', 'uk_events_series_occurrence',
+    'UNIQUE KEY uk_events_series_occurrence (series_id, series_occurrence)');
+CREATE TABLE IF NOT EXISTS eventdb.event_series (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    description TEXT,
+    location VARCHAR(255),
+    start_date_time DATETIME NOT NULL,
+    rrule VARCHAR(255) NOT NULL,
+    club_id INT,
+    capacity INT NOT NULL DEFAULT 100,
+    duration_minutes INT NOT NULL DEFAULT 60
+);
+CREATE TABLE IF NOT EXISTS eventdb.event_outbox (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    event_id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 4. Registrations; the unique key needs one row per member and event, so later duplicates are removed first
+CALL add_index_if_missing('registrationdb', 'registrations', 'idx_registrations_event_status',
+    'INDEX idx_registrations_event_status (event_id, status)');
+CALL add_index_if_missing('registrationdb', 'registrations', 'idx_registrations_date',
+    'INDEX idx_registrations_date (registration_date)');
+DELETE newer FROM registrationdb.registrations newer
+JOIN registrationdb.registrations older
+    ON older.member_id = newer.member_id AND older.event_id = newer.event_id AND older.id < newer.id;
+CALL add_index_if_missing('registrationdb', 'registrations', 'uk_registrations_member_event',
+    'UNIQUE KEY uk_registrations_member_event (member_id, event_id)');
+
+DROP PROCEDURE add_column_if_missing;
+DROP PROCEDURE add_index_if_missing;
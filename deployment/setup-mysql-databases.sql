@@ -5,7 +5,8 @@ CREATE TABLE clubs (
     id INT PRIMARY KEY AUTO_INCREMENT, -- Changed to INT
     name VARCHAR(255) NOT NULL,
     description TEXT,
-    category VARCHAR(255)
+    category VARCHAR(255),
+    INDEX idx_clubs_name (name) -- Fallback lookups by name when the in-memory index misses
 );
 -- Inserts 4 new clubs. Their auto-generated IDs will be 1, 2, 3, and 4.
 INSERT INTO clubs (name, description, category) 
@@ -32,6 +33,13 @@ VALUES
 ('Priya_Singh', 'priya@example.com', '9988776655', 2), -- Member of Photo_Club (club_id=2)
 ('Rohan_Mehta', 'rohan@example.com', '9123456789', 3), -- Member of Adventure_Club (club_id=3)
 ('Ananya_Gupta', 'ananya@example.com', '9876501234', 1); -- Another member of Coding_Club (club_id=1)
+-- Renames waiting to be relayed to registration-service, written in the same transaction as the update
+CREATE TABLE member_outbox (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    member_id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
 
 -- 3. Database and table for Events
 CREATE DATABASE IF NOT EXISTS eventdb;
@@ -42,7 +50,24 @@ CREATE TABLE events (
     description TEXT,
     location VARCHAR(255),
     date_time DATETIME NOT NULL,
-    club_id INT -- Changed to INT. Cannot be a foreign key to clubdb.
+    club_id INT, -- Changed to INT. Cannot be a foreign key to clubdb.
+    capacity INT NOT NULL DEFAULT 100, -- Seats enforced by registration-service
+    duration_minutes INT NOT NULL DEFAULT 60, -- The event occupies its location from date_time for this long
+    series_id BIGINT, -- Set on occurrences materialized from an event_series row
+    series_occurrence DATETIME, -- The occurrence's slot in its series, kept even if date_time is edited
+    UNIQUE KEY uk_events_series_occurrence (series_id, series_occurrence)
+);
+-- Recurring events: one row per series, occurrences are expanded from the RRULE on demand
+CREATE TABLE event_series (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    description TEXT,
+    location VARCHAR(255),
+    start_date_time DATETIME NOT NULL,
+    rrule VARCHAR(255) NOT NULL, -- e.g. FREQ=WEEKLY;BYDAY=TU,TH;UNTIL=20261231
+    club_id INT,
+    capacity INT NOT NULL DEFAULT 100,
+    duration_minutes INT NOT NULL DEFAULT 60
 );
 -- Inserts 4 new events. Their auto-generated IDs will be 1, 2, 3, and 4.
 INSERT INTO events (name, description, location, date_time, club_id) 
@@ -51,6 +76,13 @@ VALUES
 ('City_Photo_Walk', 'Explore_and_capture_streets', 'Old_City', '2025-10-12 07:00:00', 2), -- Event for Photo_Club (club_id=2)
 ('Mountain_Trek', 'Weekend_trek_to_Triund', 'Dharamshala', '2025-11-08 06:00:00', 3), -- Event for Adventure_Club (club_id=3)
 ('AI_Workshop', 'Intro_to_Machine_Learning', 'Tech_Park', '2025-11-22 10:00:00', 1); -- Another event for Coding_Club (club_id=1)
+-- Renames waiting to be relayed to registration-service, written in the same transaction as the update
+CREATE TABLE event_outbox (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    event_id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
 
 -- 4. Database and table for Registrations
 CREATE DATABASE IF NOT EXISTS registrationdb;
@@ -62,7 +94,10 @@ CREATE TABLE registrations (
     registration_date DATETIME NOT NULL,
     status VARCHAR(50),
     member_name VARCHAR(255),
-    event_name VARCHAR(255)
+    event_name VARCHAR(255),
+    INDEX idx_registrations_event_status (event_id, status),
+    UNIQUE KEY uk_registrations_member_event (member_id, event_id), -- One registration per member and event
+    INDEX idx_registrations_date (registration_date)
 );
 -- Inserts 4 new registrations linking members to events.
 INSERT INTO registrations (member_id, event_id, registration_date, status, member_name, event_name) 
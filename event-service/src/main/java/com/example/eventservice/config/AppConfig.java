@@ -1,20 +1,23 @@
 package com.example.eventservice.config;
 
-import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.client.RestClient;
 
 @Configuration
+@EnableScheduling
 public class AppConfig {
 
     @Bean
-    public ModelMapper modelMapper() {
-        return new ModelMapper();
-    }
-
-    @Bean
-    public RestClient restClient() {
-        return RestClient.builder().build();
+    public RestClient restClient(@Value("${event.service.cache.connect-timeout:1000}") int connectTimeout,
+                                 @Value("${event.service.cache.read-timeout:2000}") int readTimeout) {
+        // A hung club-service must not stall the club lookup refresh threads
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout(readTimeout);
+        return RestClient.builder().requestFactory(requestFactory).build();
     }
 }
\ No newline at end of file
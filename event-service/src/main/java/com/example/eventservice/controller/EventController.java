@@ -1,27 +1,53 @@
 package com.example.eventservice.controller;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.example.eventservice.dto.EventDTO;
+import com.example.eventservice.dto.EventSeriesDTO;
+import com.example.eventservice.service.CalendarFeed;
+import com.example.eventservice.service.EventSeriesService;
 import com.example.eventservice.service.EventService;
 
 @RestController
 public class EventController {
 
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
     @Autowired
     private EventService eventService;
 
+    @Autowired
+    private EventSeriesService eventSeriesService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @GetMapping("/")
     public Map<String, String> home() {
         Map<String, String> response = new HashMap<>();
@@ -38,6 +64,69 @@ public class EventController {
 
 
 
+    @GetMapping("/events/series")
+    public List<EventSeriesDTO> getAllSeries() {
+        return eventSeriesService.getAllSeries();
+    }
+
+    @GetMapping("/events/series/{id}")
+    public EventSeriesDTO getSeriesById(@PathVariable long id) {
+        return eventSeriesService.getSeriesById(id).orElse(null);
+    }
+
+    @PostMapping("/events/series")
+    public EventSeriesDTO createSeries(@RequestBody EventSeriesDTO seriesDTO) {
+        return eventSeriesService.createSeries(seriesDTO);
+    }
+
+    @DeleteMapping("/events/series/{id}")
+    public Map<String, String> deleteSeries(@PathVariable long id) {
+        eventSeriesService.deleteSeries(id);
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "Event series deleted successfully");
+        return response;
+    }
+
+    @GetMapping("/events/series/{id}/occurrences")
+    public List<EventDTO> getOccurrences(
+            @PathVariable long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "100") int limit) {
+        return eventSeriesService.getOccurrences(id, from, to, limit);
+    }
+
+    // Turns the occurrences in [from, to] into real events, e.g. just before registering for one
+    @PostMapping("/events/series/{id}/occurrences/materialize")
+    public List<EventDTO> materializeOccurrences(
+            @PathVariable long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return eventSeriesService.materializeOccurrences(id, from, to);
+    }
+
+    // One occurrence as a real event with an ID, materialized on first lookup
+    @PutMapping("/events/series/{id}/occurrences/{occurrence}")
+    public EventDTO materializeOccurrence(
+            @PathVariable long id,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime occurrence) {
+        return eventSeriesService.materializeOccurrence(id, occurrence);
+    }
+
+    @PostMapping("/events/series/{id}/occurrences/{occurrence}/register/{memberId}")
+    public Map<String, Object> registerMemberForOccurrence(
+            @PathVariable long id,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime occurrence,
+            @PathVariable long memberId) {
+        EventDTO event = eventSeriesService.materializeOccurrence(id, occurrence);
+        boolean success = eventService.registerMemberForEvent(event.get_Id(), memberId);
+        Map<String, Object> response = new HashMap<>();
+        response.put("eventId", event.get_Id());
+        response.put("success", success);
+        response.put("message", success ? "Registration successful" : "Registration failed");
+        return response;
+    }
+
     @GetMapping("/events/{id}")
     public EventDTO getEventById(@PathVariable long id) {
         return eventService.getEventById(id).orElse(null);
@@ -48,9 +137,56 @@ public class EventController {
         return eventService.getEventsByClub(clubName);
     }
 
+    @GetMapping("/events/club/id/{clubId}/statistics")
+    public Map<String, Object> getClubStatistics(@PathVariable int clubId) {
+        return eventService.getClubStatistics(clubId);
+    }
+
     @GetMapping("/events/upcoming")
-    public List<EventDTO> getUpcomingEvents() {
-        return eventService.getUpcomingEvents();
+    public List<EventDTO> getUpcomingEvents(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Integer clubId,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "${event.service.upcoming.default-limit:100}") int limit) {
+        return eventService.getUpcomingEvents(from, to, clubId, offset, limit);
+    }
+
+    @GetMapping("/events/search")
+    public List<EventDTO> searchEvents(@RequestParam String q,
+                                       @RequestParam(defaultValue = "${event.service.search.default-limit:10}") int limit) {
+        return eventService.searchEvents(q, limit);
+    }
+
+    // Gaps between bookings at a location in the Monday-to-Monday week containing the given date
+    @GetMapping("/events/venues/free-slots")
+    public Map<String, Object> getFreeSlots(
+            @RequestParam String location,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate week,
+            @RequestParam(defaultValue = "${event.service.venues.min-free-minutes:30}") int minMinutes) {
+        return eventService.getFreeSlots(location, week, minMinutes);
+    }
+
+    @GetMapping("/events/club/id/{clubId}/calendar.ics")
+    public ResponseEntity<StreamingResponseBody> getClubCalendar(@PathVariable int clubId, WebRequest request) {
+        return calendar(eventService.getClubCalendar(clubId), request);
+    }
+
+    @GetMapping("/events/member/{memberId}/calendar.ics")
+    public ResponseEntity<StreamingResponseBody> getMemberCalendar(@PathVariable long memberId, WebRequest request) {
+        return calendar(eventService.getMemberCalendar(memberId), request);
+    }
+
+    // A matching If-None-Match is answered with 304 before anything is loaded or rendered
+    private ResponseEntity<StreamingResponseBody> calendar(CalendarFeed feed, WebRequest request) {
+        if (request.checkNotModified(feed.getETag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(feed.getETag()).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .eTag(feed.getETag())
+                .cacheControl(CacheControl.noCache())
+                .body(feed::writeTo);
     }
 
     @PostMapping("/events")
@@ -86,4 +222,42 @@ public class EventController {
     public Map<String, Object> getEventStatistics(@PathVariable long id) {
         return eventService.getEventStatistics(id);
     }
-}
\ No newline at end of file
+
+    @PostMapping("/events/statistics/batch")
+    public ResponseEntity<StreamingResponseBody> getEventStatistics(@RequestBody List<Long> ids) {
+        // Loading happens here so a bad request fails before the response starts
+        Stream<Map<String, Object>> rows = eventService.getEventStatistics(ids);
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartArray();
+                for (Map<String, Object> row : (Iterable<Map<String, Object>>) rows::iterator) {
+                    objectMapper.writeValue(generator, row);
+                }
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    @GetMapping("/events/cache/statistics")
+    public Map<String, Object> getClubLookupStatistics() {
+        return eventService.getClubLookupStatistics();
+    }
+
+    @DeleteMapping("/events/cache/clubs")
+    public Map<String, String> invalidateClubLookups() {
+        eventService.invalidateClubLookup(null);
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "Club lookups invalidated");
+        return response;
+    }
+
+    @DeleteMapping("/events/cache/clubs/{clubName}")
+    public Map<String, String> invalidateClubLookup(@PathVariable String clubName) {
+        eventService.invalidateClubLookup(clubName);
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "Club lookup invalidated");
+        return response;
+    }
+}
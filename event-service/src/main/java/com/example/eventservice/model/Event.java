@@ -9,18 +9,23 @@ public class Event {
     String _Location;
     LocalDateTime _DateTime;
     int _ClubId;
+    int _Capacity;
+    int _DurationMinutes;
+    long _SeriesId;
+    LocalDateTime _SeriesOccurrence;
 
     // Default constructor
     public Event() {}
 
     // Parameterized constructor (Correctly added)
-    public Event(long id, String name, String description, String location, LocalDateTime dateTime, int clubId) {
+    public Event(long id, String name, String description, String location, LocalDateTime dateTime, int clubId, int capacity) {
         _Id = id;
         _Name = name;
         _Description = description;
         _Location = location;
         _DateTime = dateTime;
         _ClubId = clubId;
+        _Capacity = capacity;
     }
 
     // Getters and Setters
@@ -36,4 +41,12 @@ public class Event {
     public void set_DateTime(LocalDateTime dateTime) { _DateTime = dateTime; }
     public int get_ClubId() { return _ClubId; }
     public void set_ClubId(int clubId) { _ClubId = clubId; }
+    public int get_Capacity() { return _Capacity; }
+    public void set_Capacity(int capacity) { _Capacity = capacity; }
+    public int get_DurationMinutes() { return _DurationMinutes; }
+    public void set_DurationMinutes(int durationMinutes) { _DurationMinutes = durationMinutes; }
+    public long get_SeriesId() { return _SeriesId; }
+    public void set_SeriesId(long seriesId) { _SeriesId = seriesId; }
+    public LocalDateTime get_SeriesOccurrence() { return _SeriesOccurrence; }
+    public void set_SeriesOccurrence(LocalDateTime seriesOccurrence) { _SeriesOccurrence = seriesOccurrence; }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.example.eventservice.model;
+
+import java.time.LocalDateTime;
+
+public class EventSeries {
+    long _Id;
+    String _Name;
+    String _Description;
+    String _Location;
+    LocalDateTime _StartDateTime;
+    String _Rule;
+    int _ClubId;
+    int _Capacity;
+    int _DurationMinutes;
+
+    // Default constructor
+    public EventSeries() {}
+
+    public EventSeries(long id, String name, String description, String location, LocalDateTime startDateTime, String rule, int clubId, int capacity) {
+        _Id = id;
+        _Name = name;
+        _Description = description;
+        _Location = location;
+        _StartDateTime = startDateTime;
+        _Rule = rule;
+        _ClubId = clubId;
+        _Capacity = capacity;
+    }
+
+    // Getters and Setters
+    public long get_Id() { return _Id; }
+    public void set_Id(long id) { _Id = id; }
+    public String get_Name() { return _Name; }
+    public void set_Name(String name) { _Name = name; }
+    public String get_Description() { return _Description; }
+    public void set_Description(String description) { _Description = description; }
+    public String get_Location() { return _Location; }
+    public void set_Location(String location) { _Location = location; }
+    public LocalDateTime get_StartDateTime() { return _StartDateTime; }
+    public void set_StartDateTime(LocalDateTime startDateTime) { _StartDateTime = startDateTime; }
+    public String get_Rule() { return _Rule; }
+    public void set_Rule(String rule) { _Rule = rule; }
+    public int get_ClubId() { return _ClubId; }
+    public void set_ClubId(int clubId) { _ClubId = clubId; }
+    public int get_Capacity() { return _Capacity; }
+    public void set_Capacity(int capacity) { _Capacity = capacity; }
+    public int get_DurationMinutes() { return _DurationMinutes; }
+    public void set_DurationMinutes(int durationMinutes) { _DurationMinutes = durationMinutes; }
+}
@@ -0,0 +1,31 @@
+package com.example.eventservice.model;
+
+public class OutboxEntry {
+    long _Id;
+    long _EventId;
+    String _Name;
+
+    public OutboxEntry() {
+        // Default constructor
+    }
+
+    public OutboxEntry(long id, long eventId, String name) {
+        _Id = id;
+        _EventId = eventId;
+        _Name = name;
+    }
+
+    // Setters and Getters
+    public long get_Id() { 
+        return _Id; }
+    public void set_Id(long id) { 
+        _Id = id; }
+    public long get_EventId() { 
+        return _EventId; }
+    public void set_EventId(long eventId) { 
+        _EventId = eventId; }
+    public String get_Name() { 
+        return _Name; }
+    public void set_Name(String name) { 
+        _Name = name; }
+}
@@ -1,16 +1,25 @@
 package com.example.eventservice.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 import com.example.eventservice.model.Event;
 
 public interface EventRepository {
     List<Event> findAll();
     Optional<Event> findById(long id);
+    List<Event> findByIds(Collection<Long> ids);
     List<Event> findByClubId(int clubId);
+    Map<String, Object> countByClubId(int clubId);
     List<Event> findUpcoming();
+    List<Event> findBySeriesIdBetween(long seriesId, LocalDateTime from, LocalDateTime to);
+    void forEachSeriesOccurrence(BiConsumer<Long, LocalDateTime> consumer);
     Event save(Event event);
+    List<Event> saveAll(List<Event> events);
     Event update(Event event);
     void deleteById(long id);
 }
\ No newline at end of file
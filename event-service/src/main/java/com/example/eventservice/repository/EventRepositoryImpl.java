@@ -1,19 +1,37 @@
 package com.example.eventservice.repository;
 
-
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.eventservice.model.Event;
 
 @Repository
 public class EventRepositoryImpl implements EventRepository {
 
+    private static final String INSERT_SQL = "INSERT INTO events (name, description, location, date_time, club_id, capacity, "
+            + "duration_minutes, series_id, series_occurrence) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final JdbcTemplate jdbcTemplate;
 
     @Autowired
@@ -37,12 +55,34 @@ public class EventRepositoryImpl implements EventRepository {
         }
     }
 
+    @Override
+    public List<Event> findByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        String sql = "SELECT * FROM events WHERE id IN (" + placeholders + ")";
+        return jdbcTemplate.query(sql, new EventRowMapper(), ids.toArray());
+    }
+
     @Override
     public List<Event> findByClubId(int clubId) {
         String sql = "SELECT * FROM events WHERE club_id = ?";
         return jdbcTemplate.query(sql, new EventRowMapper(), clubId);
     }
 
+    // Total and upcoming event counts for a club in one pass over its rows
+    @Override
+    public Map<String, Object> countByClubId(int clubId) {
+        String sql = "SELECT COUNT(*) AS eventCount, COALESCE(SUM(date_time > NOW()), 0) AS upcomingEventCount FROM events WHERE club_id = ?";
+        return jdbcTemplate.queryForObject(sql, (rs, rowNum) -> {
+            Map<String, Object> counts = new LinkedHashMap<>();
+            counts.put("eventCount", rs.getLong("eventCount"));
+            counts.put("upcomingEventCount", rs.getLong("upcomingEventCount"));
+            return counts;
+        }, clubId);
+    }
+
     @Override
     public List<Event> findUpcoming() {
         // NOW() is a standard SQL function for the current timestamp
@@ -52,15 +92,84 @@ public class EventRepositoryImpl implements EventRepository {
 
     @Override
     public Event save(Event event) {
-        String sql = "INSERT INTO events (name, description, location, date_time, club_id) VALUES (?, ?, ?, ?, ?)";
-        jdbcTemplate.update(sql, event.get_Name(), event.get_Description(), event.get_Location(), event.get_DateTime(), event.get_ClubId());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+            bindInsert(ps, event);
+            return ps;
+        }, keyHolder);
+        Number key = keyHolder.getKey();
+        if (key != null) {
+            event.set_Id(key.longValue());
+        }
         return event;
     }
 
+    @Override
+    @Transactional
+    public List<Event> saveAll(List<Event> events) {
+        if (events.isEmpty()) {
+            return events;
+        }
+        // One batch for all rows, with the generated IDs read back in insert order
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        bindInsert(ps, events.get(i));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return events.size();
+                    }
+                }, keyHolder);
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < keys.size() && i < events.size(); i++) {
+            Object key = keys.get(i).values().stream().findFirst().orElse(null);
+            if (key instanceof Number) {
+                events.get(i).set_Id(((Number) key).longValue());
+            }
+        }
+        return events;
+    }
+
+    private static void bindInsert(PreparedStatement ps, Event event) throws SQLException {
+        ps.setString(1, event.get_Name());
+        ps.setString(2, event.get_Description());
+        ps.setString(3, event.get_Location());
+        ps.setTimestamp(4, event.get_DateTime() != null ? Timestamp.valueOf(event.get_DateTime()) : null);
+        ps.setInt(5, event.get_ClubId());
+        ps.setInt(6, event.get_Capacity());
+        ps.setInt(7, event.get_DurationMinutes());
+        if (event.get_SeriesId() != 0) {
+            ps.setLong(8, event.get_SeriesId());
+            ps.setTimestamp(9, Timestamp.valueOf(event.get_SeriesOccurrence()));
+        } else {
+            ps.setNull(8, Types.BIGINT);
+            ps.setNull(9, Types.TIMESTAMP);
+        }
+    }
+
+    @Override
+    public List<Event> findBySeriesIdBetween(long seriesId, LocalDateTime from, LocalDateTime to) {
+        String sql = "SELECT * FROM events WHERE series_id = ? AND series_occurrence BETWEEN ? AND ?";
+        return jdbcTemplate.query(sql, new EventRowMapper(), seriesId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    @Override
+    public void forEachSeriesOccurrence(BiConsumer<Long, LocalDateTime> consumer) {
+        String sql = "SELECT series_id, series_occurrence FROM events WHERE series_id IS NOT NULL";
+        jdbcTemplate.query(sql, rs -> {
+            consumer.accept(rs.getLong("series_id"), rs.getTimestamp("series_occurrence").toLocalDateTime());
+        });
+    }
+
     @Override
     public Event update(Event event) {
-        String sql = "UPDATE events SET name = ?, description = ?, location = ?, date_time = ?, club_id = ? WHERE id = ?";
-        jdbcTemplate.update(sql, event.get_Name(), event.get_Description(), event.get_Location(), event.get_DateTime(), event.get_ClubId(), event.get_Id());
+        String sql = "UPDATE events SET name = ?, description = ?, location = ?, date_time = ?, club_id = ?, capacity = ?, duration_minutes = ? WHERE id = ?";
+        jdbcTemplate.update(sql, event.get_Name(), event.get_Description(), event.get_Location(), event.get_DateTime(), event.get_ClubId(), event.get_Capacity(), event.get_DurationMinutes(), event.get_Id());
         return event;
     }
 
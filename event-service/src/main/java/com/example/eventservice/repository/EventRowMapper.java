@@ -1,6 +1,7 @@
 package com.example.eventservice.repository;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 
 import org.springframework.jdbc.core.RowMapper;
 
@@ -16,6 +17,11 @@ public class EventRowMapper implements RowMapper<Event> {
         event.set_Location(rs.getString("location"));
         event.set_DateTime(rs.getTimestamp("date_time").toLocalDateTime());
         event.set_ClubId(rs.getInt("club_id"));
+        event.set_Capacity(rs.getInt("capacity"));
+        event.set_DurationMinutes(rs.getInt("duration_minutes"));
+        event.set_SeriesId(rs.getLong("series_id"));
+        Timestamp occurrence = rs.getTimestamp("series_occurrence");
+        event.set_SeriesOccurrence(occurrence != null ? occurrence.toLocalDateTime() : null);
         return event;
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.example.eventservice.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.example.eventservice.model.EventSeries;
+
+public interface EventSeriesRepository {
+    List<EventSeries> findAll();
+    Optional<EventSeries> findById(long id);
+    EventSeries save(EventSeries series);
+    void deleteById(long id);
+}
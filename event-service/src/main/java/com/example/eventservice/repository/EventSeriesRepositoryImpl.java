@@ -0,0 +1,72 @@
+package com.example.eventservice.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.example.eventservice.model.EventSeries;
+
+@Repository
+public class EventSeriesRepositoryImpl implements EventSeriesRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public EventSeriesRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<EventSeries> findAll() {
+        String sql = "SELECT * FROM event_series";
+        return jdbcTemplate.query(sql, new EventSeriesRowMapper());
+    }
+
+    @Override
+    public Optional<EventSeries> findById(long id) {
+        String sql = "SELECT * FROM event_series WHERE id = ?";
+        try {
+            return Optional.ofNullable(jdbcTemplate.queryForObject(sql, new EventSeriesRowMapper(), id));
+        } catch (EmptyResultDataAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public EventSeries save(EventSeries series) {
+        String sql = "INSERT INTO event_series (name, description, location, start_date_time, rrule, club_id, capacity, duration_minutes) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, series.get_Name());
+            ps.setString(2, series.get_Description());
+            ps.setString(3, series.get_Location());
+            ps.setTimestamp(4, Timestamp.valueOf(series.get_StartDateTime()));
+            ps.setString(5, series.get_Rule());
+            ps.setInt(6, series.get_ClubId());
+            ps.setInt(7, series.get_Capacity());
+            ps.setInt(8, series.get_DurationMinutes());
+            return ps;
+        }, keyHolder);
+        Number key = keyHolder.getKey();
+        if (key != null) {
+            series.set_Id(key.longValue());
+        }
+        return series;
+    }
+
+    @Override
+    public void deleteById(long id) {
+        String sql = "DELETE FROM event_series WHERE id = ?";
+        jdbcTemplate.update(sql, id);
+    }
+}
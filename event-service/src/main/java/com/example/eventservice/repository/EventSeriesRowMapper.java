@@ -0,0 +1,24 @@
+package com.example.eventservice.repository;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import com.example.eventservice.model.EventSeries;
+
+public class EventSeriesRowMapper implements RowMapper<EventSeries> {
+    @Override
+    public EventSeries mapRow(ResultSet rs, int rowNum) throws SQLException {
+        EventSeries series = new EventSeries();
+        series.set_Id(rs.getLong("id"));
+        series.set_Name(rs.getString("name"));
+        series.set_Description(rs.getString("description"));
+        series.set_Location(rs.getString("location"));
+        series.set_StartDateTime(rs.getTimestamp("start_date_time").toLocalDateTime());
+        series.set_Rule(rs.getString("rrule"));
+        series.set_ClubId(rs.getInt("club_id"));
+        series.set_Capacity(rs.getInt("capacity"));
+        series.set_DurationMinutes(rs.getInt("duration_minutes"));
+        return series;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.eventservice.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import com.example.eventservice.model.OutboxEntry;
+
+public class OutboxEntryRowMapper implements RowMapper<OutboxEntry> {
+    @Override
+    public OutboxEntry mapRow(ResultSet rs, int rowNum) throws SQLException {
+        OutboxEntry entry = new OutboxEntry();
+        entry.set_Id(rs.getLong("id"));
+        entry.set_EventId(rs.getLong("event_id"));
+        entry.set_Name(rs.getString("name"));
+        return entry;
+    }
+}
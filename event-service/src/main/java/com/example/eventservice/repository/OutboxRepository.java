@@ -0,0 +1,11 @@
+package com.example.eventservice.repository;
+
+import java.util.List;
+
+import com.example.eventservice.model.OutboxEntry;
+
+public interface OutboxRepository {
+    void append(long eventId, String name);
+    List<OutboxEntry> findOldest(int limit);
+    void deleteByIds(List<Long> ids);
+}
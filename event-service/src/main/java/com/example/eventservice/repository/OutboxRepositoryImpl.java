@@ -0,0 +1,43 @@
+package com.example.eventservice.repository;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.eventservice.model.OutboxEntry;
+
+@Repository
+public class OutboxRepositoryImpl implements OutboxRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public OutboxRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void append(long eventId, String name) {
+        String sql = "INSERT INTO event_outbox (event_id, name) VALUES (?, ?)";
+        jdbcTemplate.update(sql, eventId, name);
+    }
+
+    @Override
+    public List<OutboxEntry> findOldest(int limit) {
+        String sql = "SELECT * FROM event_outbox ORDER BY id LIMIT ?";
+        return jdbcTemplate.query(sql, new OutboxEntryRowMapper(), limit);
+    }
+
+    @Override
+    public void deleteByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        // Delete exactly what was delivered; a range delete could drop rows committed out of ID order
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        jdbcTemplate.update("DELETE FROM event_outbox WHERE id IN (" + placeholders + ")", ids.toArray());
+    }
+}
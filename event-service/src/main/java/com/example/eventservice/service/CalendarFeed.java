@@ -0,0 +1,15 @@
+package com.example.eventservice.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A calendar feed ready to be sent: its entity tag is known up front, and the body is
+ * either replayed from the rendered-feed cache or rendered straight to the response.
+ */
+public interface CalendarFeed {
+
+    String getETag();
+
+    void writeTo(OutputStream out) throws IOException;
+}
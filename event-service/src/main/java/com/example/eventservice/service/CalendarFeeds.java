@@ -0,0 +1,271 @@
+package com.example.eventservice.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.example.eventservice.model.Event;
+import com.example.eventservice.repository.EventRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * iCalendar feeds per club and per member. Every feed has a content version derived from
+ * in-memory counters that event writes bump, so a poll whose If-None-Match still matches
+ * is answered without touching MySQL, and a changed feed is rendered once and cached.
+ */
+@Component
+public class CalendarFeeds {
+
+    private static final DateTimeFormatter LOCAL_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UTC_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final String SEAT_RELEASED = "CANCELLED";
+    private static final String NO_SEAT = "WAITLIST";
+
+    private final EventRepository eventRepository;
+    private final RestClient restClient;
+    private final String registrationServiceUrl = "http://localhost:8084";
+    // Distinguishes tags issued before a restart, when all counters start again from zero
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final ConcurrentHashMap<Integer, Long> clubVersions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> eventVersions = new ConcurrentHashMap<>();
+    private final Cache<String, RenderedFeed> rendered;
+    private final Cache<Long, List<Long>> memberEvents;
+    private final int seriesWindowDays;
+
+    @Autowired
+    public CalendarFeeds(EventRepository eventRepository, RestClient restClient,
+                         @Value("${event.service.calendar.max-feeds:10000}") long maxFeeds,
+                         @Value("${event.service.calendar.member-ttl:60}") long memberTtlSeconds,
+                         @Value("${event.service.series.default-window-days:90}") int seriesWindowDays) {
+        this.eventRepository = eventRepository;
+        this.restClient = restClient;
+        this.seriesWindowDays = seriesWindowDays;
+        this.rendered = Caffeine.newBuilder().maximumSize(maxFeeds).build();
+        this.memberEvents = Caffeine.newBuilder()
+                .maximumSize(maxFeeds)
+                .expireAfterWrite(Duration.ofSeconds(memberTtlSeconds))
+                .build();
+    }
+
+    // Called after every event write with the row as it was and as it is now (either may be null)
+    public void eventChanged(Event before, Event after) {
+        if (before != null) {
+            clubVersions.merge(before.get_ClubId(), 1L, Long::sum);
+            eventVersions.merge(before.get_Id(), 1L, Long::sum);
+        }
+        if (after != null) {
+            clubVersions.merge(after.get_ClubId(), 1L, Long::sum);
+            eventVersions.merge(after.get_Id(), 1L, Long::sum);
+        }
+    }
+
+    // Called when one of the club's series is created or deleted
+    public void seriesChanged(int clubId) {
+        clubVersions.merge(clubId, 1L, Long::sum);
+    }
+
+    // Series occurrences not yet materialized are expanded over the window starting today,
+    // so the tag also carries the date the window slides with
+    public CalendarFeed clubFeed(int clubId, BiFunction<LocalDateTime, LocalDateTime, Iterator<Event>> pendingOccurrences) {
+        LocalDate today = LocalDate.now();
+        String etag = "\"club-" + clubId + "-" + epoch + "-" + clubVersions.getOrDefault(clubId, 0L) + "-" + today + "\"";
+        return feed("club:" + clubId, etag, "Club " + clubId + " events", () -> {
+            List<Event> events = new ArrayList<>(eventRepository.findByClubId(clubId));
+            pendingOccurrences.apply(today.atStartOfDay(), today.plusDays(seriesWindowDays).atStartOfDay())
+                    .forEachRemaining(events::add);
+            return events;
+        });
+    }
+
+    // Registrations come from registration-service and are reused for member-ttl seconds
+    public CalendarFeed memberFeed(long memberId) {
+        List<Long> eventIds = memberEvents.get(memberId, this::fetchRegisteredEventIds);
+        long hash = 17;
+        for (Long eventId : eventIds) {
+            hash = hash * 31 + eventId;
+            hash = hash * 31 + eventVersions.getOrDefault(eventId, 0L);
+        }
+        String etag = "\"member-" + memberId + "-" + epoch + "-" + Long.toHexString(hash) + "\"";
+        return feed("member:" + memberId, etag, "Member " + memberId + " registrations", () -> eventRepository.findByIds(eventIds));
+    }
+
+    private List<Long> fetchRegisteredEventIds(long memberId) {
+        List<Map<String, Object>> registrations;
+        try {
+            registrations = restClient.get()
+                .uri(registrationServiceUrl + "/registrations/member/" + memberId)
+                .retrieve()
+                .body(new ParameterizedTypeReference<List<Map<String, Object>>>() {});
+        } catch (Exception e) {
+            // An empty feed would wipe the subscriber's calendar, so ask the client to retry instead
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Registrations are unavailable", e);
+        }
+        if (registrations == null) {
+            return List.of();
+        }
+        return registrations.stream()
+                .filter(reg -> !SEAT_RELEASED.equals(reg.get("_Status")) && !NO_SEAT.equals(reg.get("_Status")))
+                .map(reg -> ((Number) reg.get("_EventId")).longValue())
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private CalendarFeed feed(String key, String etag, String title, Supplier<List<Event>> events) {
+        return new CalendarFeed() {
+            @Override
+            public String getETag() {
+                return etag;
+            }
+
+            @Override
+            public void writeTo(OutputStream out) throws IOException {
+                RenderedFeed cached = rendered.getIfPresent(key);
+                if (cached != null && cached.etag.equals(etag)) {
+                    out.write(cached.bytes);
+                    return;
+                }
+                // Render once, sending each chunk to the client while keeping a copy for the next poll
+                ByteArrayOutputStream copy = new ByteArrayOutputStream(8192);
+                render(title, events.get(), new TeeOutputStream(out, copy));
+                rendered.put(key, new RenderedFeed(etag, copy.toByteArray()));
+            }
+        };
+    }
+
+    private static void render(String title, List<Event> events, OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        String stamp = LocalDateTime.now(ZoneOffset.UTC).format(UTC_TIME);
+        line(writer, "BEGIN:VCALENDAR");
+        line(writer, "VERSION:2.0");
+        line(writer, "PRODID:-//ClubConnect//Event Service//EN");
+        line(writer, "CALSCALE:GREGORIAN");
+        line(writer, "X-WR-CALNAME:" + escape(title));
+        events.sort(Comparator.comparing(Event::get_DateTime, Comparator.nullsLast(Comparator.naturalOrder())));
+        for (Event event : events) {
+            if (event.get_DateTime() == null) {
+                continue;
+            }
+            line(writer, "BEGIN:VEVENT");
+            line(writer, "UID:" + uid(event));
+            line(writer, "DTSTAMP:" + stamp);
+            line(writer, "DTSTART:" + event.get_DateTime().format(LOCAL_TIME));
+            if (event.get_DurationMinutes() > 0) {
+                line(writer, "DTEND:" + event.get_DateTime().plusMinutes(event.get_DurationMinutes()).format(LOCAL_TIME));
+            }
+            line(writer, "SUMMARY:" + escape(event.get_Name()));
+            if (event.get_Description() != null) {
+                line(writer, "DESCRIPTION:" + escape(event.get_Description()));
+            }
+            if (event.get_Location() != null) {
+                line(writer, "LOCATION:" + escape(event.get_Location()));
+            }
+            line(writer, "END:VEVENT");
+        }
+        line(writer, "END:VCALENDAR");
+        writer.flush();
+    }
+
+    // An occurrence keeps the UID of its slot whether it is expanded or materialized
+    private static String uid(Event event) {
+        if (event.get_SeriesId() != 0 && event.get_SeriesOccurrence() != null) {
+            return "series-" + event.get_SeriesId() + "-" + event.get_SeriesOccurrence().format(LOCAL_TIME) + "@clubconnect";
+        }
+        return "event-" + event.get_Id() + "@clubconnect";
+    }
+
+    // RFC 5545 content lines end in CRLF and are folded so no line exceeds 75 UTF-8 octets;
+    // folds fall between code points, never inside a multi-byte character or surrogate pair
+    static void line(Writer writer, String content) throws IOException {
+        int start = 0;
+        int octets = 0;
+        int limit = 75;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int size = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (octets + size > limit) {
+                writer.write(content, start, i - start);
+                writer.write("\r\n ");
+                start = i;
+                octets = 0;
+                // The leading space counts toward the continuation line
+                limit = 74;
+            }
+            octets += size;
+            i += Character.charCount(codePoint);
+        }
+        writer.write(content, start, content.length() - start);
+        writer.write("\r\n");
+    }
+
+    private static String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replace("\\", "\\\\").replace(";", "\\;").replace(",", "\\,")
+                .replace("\r\n", "\\n").replace("\n", "\\n");
+    }
+
+    private static final class RenderedFeed {
+        final String etag;
+        final byte[] bytes;
+
+        RenderedFeed(String etag, byte[] bytes) {
+            this.etag = etag;
+            this.bytes = bytes;
+        }
+    }
+
+    private static final class TeeOutputStream extends OutputStream {
+        private final OutputStream first;
+        private final OutputStream second;
+
+        TeeOutputStream(OutputStream first, OutputStream second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            first.write(b);
+            second.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            first.write(b, off, len);
+            second.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            first.flush();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.eventservice.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Club name to ID resolution, cached locally so club-filtered listings normally skip
+ * club-service entirely. Entries older than the TTL are refreshed in the background
+ * while the current ID keeps being served, and a failed refresh keeps the stale ID
+ * until max-stale is reached.
+ */
+@Component
+public class ClubLookup {
+
+    private final RestClient restClient;
+    private final LoadingCache<String, Integer> clubIds;
+    private final String clubServiceUrl = "http://localhost:8081";
+
+    @Autowired
+    public ClubLookup(RestClient restClient, MeterRegistry meterRegistry,
+                      @Value("${event.service.cache.enabled:true}") boolean cacheEnabled,
+                      @Value("${event.service.cache.ttl:300}") long ttlSeconds,
+                      @Value("${event.service.cache.max-size:1000}") long maxSize,
+                      @Value("${event.service.cache.max-stale:86400}") long maxStaleSeconds) {
+        this.restClient = restClient;
+        this.clubIds = Caffeine.newBuilder()
+                .maximumSize(cacheEnabled ? maxSize : 0)
+                .refreshAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .expireAfterWrite(Duration.ofSeconds(Math.max(ttlSeconds, maxStaleSeconds)))
+                .recordStats()
+                .build(this::fetch);
+        CaffeineCacheMetrics.monitor(meterRegistry, clubIds, "event.lookup.clubs");
+    }
+
+    // Empty when club-service does not know the name; throws only when it is unreachable and nothing is cached
+    public Optional<Integer> clubId(String clubName) {
+        return Optional.ofNullable(clubIds.get(clubName));
+    }
+
+    // Returning null drops the entry, so a refresh that finds the club gone stops serving its ID
+    private Integer fetch(String clubName) {
+        Map<String, Object> club = restClient.get()
+            .uri(clubServiceUrl + "/clubs/name/{name}", clubName)
+            .retrieve()
+            .body(Map.class);
+        if (club == null || !(club.get("_Id") instanceof Number)) {
+            return null;
+        }
+        return ((Number) club.get("_Id")).intValue();
+    }
+
+    public void invalidate(String clubName) {
+        clubIds.invalidate(clubName);
+    }
+
+    public void invalidateAll() {
+        clubIds.invalidateAll();
+    }
+
+    public Map<String, Object> getStatistics() {
+        CacheStats stats = clubIds.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", clubIds.estimatedSize());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("loadFailures", stats.loadFailureCount());
+        result.put("evictions", stats.evictionCount());
+        return result;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.eventservice.service;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import com.example.eventservice.model.Event;
+
+// K-way merge of event iterators that are each already ordered by start time
+final class EventIterators {
+
+    private static final Comparator<Head> ORDER = Comparator.comparing((Head head) -> head.event.get_DateTime())
+            .thenComparingLong(head -> head.event.get_Id() == 0 ? Long.MAX_VALUE : head.event.get_Id());
+
+    private EventIterators() {
+    }
+
+    static Iterator<Event> mergeByStart(List<Iterator<Event>> sources) {
+        PriorityQueue<Head> heads = new PriorityQueue<>(Math.max(1, sources.size()), ORDER);
+        for (Iterator<Event> source : sources) {
+            if (source.hasNext()) {
+                heads.add(new Head(source.next(), source));
+            }
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public Event next() {
+                Head head = heads.poll();
+                if (head == null) {
+                    throw new NoSuchElementException();
+                }
+                if (head.source.hasNext()) {
+                    heads.add(new Head(head.source.next(), head.source));
+                }
+                return head.event;
+            }
+        };
+    }
+
+    private static final class Head {
+        final Event event;
+        final Iterator<Event> source;
+
+        Head(Event event, Iterator<Event> source) {
+            this.event = event;
+            this.source = source;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.eventservice.service;
+
+import org.springframework.stereotype.Component;
+
+import com.example.eventservice.dto.EventDTO;
+import com.example.eventservice.dto.EventSeriesDTO;
+import com.example.eventservice.model.Event;
+import com.example.eventservice.model.EventSeries;
+
+// Field-by-field copies between events, event series and their DTOs
+@Component
+public class EventMapper {
+
+    public EventDTO toDto(Event event) {
+        if (event == null) {
+            return null;
+        }
+        EventDTO dto = new EventDTO(event.get_Id(), event.get_Name(), event.get_Description(), event.get_Location(),
+                event.get_DateTime(), event.get_ClubId(), event.get_Capacity());
+        dto.set_DurationMinutes(event.get_DurationMinutes());
+        dto.set_SeriesId(event.get_SeriesId());
+        dto.set_SeriesOccurrence(event.get_SeriesOccurrence());
+        return dto;
+    }
+
+    public Event toEntity(EventDTO dto) {
+        if (dto == null) {
+            return null;
+        }
+        Event event = new Event(dto.get_Id(), dto.get_Name(), dto.get_Description(), dto.get_Location(),
+                dto.get_DateTime(), dto.get_ClubId(), dto.get_Capacity());
+        event.set_DurationMinutes(dto.get_DurationMinutes());
+        event.set_SeriesId(dto.get_SeriesId());
+        event.set_SeriesOccurrence(dto.get_SeriesOccurrence());
+        return event;
+    }
+
+    public EventSeriesDTO toDto(EventSeries series) {
+        if (series == null) {
+            return null;
+        }
+        EventSeriesDTO dto = new EventSeriesDTO(series.get_Id(), series.get_Name(), series.get_Description(), series.get_Location(),
+                series.get_StartDateTime(), series.get_Rule(), series.get_ClubId(), series.get_Capacity());
+        dto.set_DurationMinutes(series.get_DurationMinutes());
+        return dto;
+    }
+
+    public EventSeries toEntity(EventSeriesDTO dto) {
+        if (dto == null) {
+            return null;
+        }
+        EventSeries series = new EventSeries(dto.get_Id(), dto.get_Name(), dto.get_Description(), dto.get_Location(),
+                dto.get_StartDateTime(), dto.get_Rule(), dto.get_ClubId(), dto.get_Capacity());
+        series.set_DurationMinutes(dto.get_DurationMinutes());
+        return series;
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.eventservice.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.eventservice.model.Event;
+import com.example.eventservice.repository.EventRepository;
+
+/**
+ * Inverted index over event names, descriptions and locations. Terms live in a sorted map
+ * so a query token also matches every term it prefixes; each posting carries a field-weighted
+ * score. Every query token must match, and only the top K events are kept while ranking.
+ */
+@Component
+public class EventSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(EventSearchIndex.class);
+    private static final int NAME_WEIGHT = 3;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final EventRepository eventRepository;
+    private final ConcurrentSkipListMap<String, ConcurrentHashMap<Long, Integer>> postings = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Long, Event> events = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> termsByEvent = new HashMap<>();
+    private final Object writeLock = new Object();
+    // Events written while the initial load is querying the table; the load must not overwrite them
+    private Set<Long> touchedDuringLoad;
+
+    @Value("${event.service.search.max-expansions:64}")
+    private int maxExpansions;
+
+    @Autowired
+    public EventSearchIndex(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (writeLock) {
+            touchedDuringLoad = new HashSet<>();
+        }
+        List<Event> all;
+        try {
+            all = eventRepository.findAll();
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                touchedDuringLoad = null;
+            }
+            throw e;
+        }
+        synchronized (writeLock) {
+            for (Event event : all) {
+                if (!touchedDuringLoad.contains(event.get_Id())) {
+                    index(event);
+                }
+            }
+            touchedDuringLoad = null;
+        }
+        log.info("Event search index loaded with {} events and {} terms", events.size(), postings.size());
+    }
+
+    public void put(Event event) {
+        synchronized (writeLock) {
+            unindex(event.get_Id());
+            index(event);
+            if (touchedDuringLoad != null) {
+                touchedDuringLoad.add(event.get_Id());
+            }
+        }
+    }
+
+    public void remove(long eventId) {
+        synchronized (writeLock) {
+            unindex(eventId);
+            if (touchedDuringLoad != null) {
+                touchedDuringLoad.add(eventId);
+            }
+        }
+    }
+
+    // Best-scoring events matching every token of the query, highest score first
+    public List<Event> search(String query, int limit) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (tokens.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // Score each token separately, then intersect starting from the rarest one
+        List<Map<Long, Integer>> perToken = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            Map<Long, Integer> matches = match(token);
+            if (matches.isEmpty()) {
+                return Collections.emptyList();
+            }
+            perToken.add(matches);
+        }
+        perToken.sort(Comparator.comparingInt(Map::size));
+
+        PriorityQueue<Map.Entry<Long, Integer>> top = new PriorityQueue<>(limit + 1,
+                Map.Entry.<Long, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())));
+        candidates:
+        for (Map.Entry<Long, Integer> candidate : perToken.get(0).entrySet()) {
+            int score = candidate.getValue();
+            for (int i = 1; i < perToken.size(); i++) {
+                Integer other = perToken.get(i).get(candidate.getKey());
+                if (other == null) {
+                    continue candidates;
+                }
+                score += other;
+            }
+            top.offer(Map.entry(candidate.getKey(), score));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<Event> ranked = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            Event event = events.get(top.poll().getKey());
+            if (event != null) {
+                ranked.add(event);
+            }
+        }
+        Collections.reverse(ranked);
+        return ranked;
+    }
+
+    // An exact term scores double; terms the token merely prefixes score once, up to maxExpansions terms
+    private Map<Long, Integer> match(String token) {
+        Map<Long, Integer> scores = new HashMap<>();
+        int expansions = 0;
+        for (Map.Entry<String, ConcurrentHashMap<Long, Integer>> term : postings.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+            int boost = term.getKey().equals(token) ? 2 : 1;
+            term.getValue().forEach((eventId, score) -> scores.merge(eventId, score * boost, Integer::sum));
+            if (++expansions >= maxExpansions) {
+                break;
+            }
+        }
+        return scores;
+    }
+
+    private void index(Event event) {
+        Map<String, Integer> scores = new HashMap<>();
+        tokenize(event.get_Name()).forEach(term -> scores.merge(term, NAME_WEIGHT, Integer::sum));
+        tokenize(event.get_Location()).forEach(term -> scores.merge(term, LOCATION_WEIGHT, Integer::sum));
+        tokenize(event.get_Description()).forEach(term -> scores.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+        scores.forEach((term, score) -> postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(event.get_Id(), score));
+        termsByEvent.put(event.get_Id(), scores.keySet());
+        events.put(event.get_Id(), event);
+    }
+
+    private void unindex(long eventId) {
+        events.remove(eventId);
+        Set<String> terms = termsByEvent.remove(eventId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            postings.computeIfPresent(term, (t, ids) -> {
+                ids.remove(eventId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    // Lower-cased runs of letters and digits; underscores and punctuation separate words
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.eventservice.service;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import com.example.eventservice.dto.EventDTO;
+import com.example.eventservice.dto.EventSeriesDTO;
+import com.example.eventservice.model.Event;
+
+public interface EventSeriesService {
+    List<EventSeriesDTO> getAllSeries();
+    Optional<EventSeriesDTO> getSeriesById(long id);
+    EventSeriesDTO createSeries(EventSeriesDTO seriesDTO);
+    void deleteSeries(long id);
+    List<EventDTO> getOccurrences(long seriesId, LocalDateTime from, LocalDateTime to, int limit);
+    List<EventDTO> materializeOccurrences(long seriesId, LocalDateTime from, LocalDateTime to);
+    EventDTO materializeOccurrence(long seriesId, LocalDateTime occurrence);
+    Iterator<Event> upcomingOccurrences(LocalDateTime from, LocalDateTime to, Integer clubId);
+    List<Event> pendingOccurrencesAt(String location, LocalDateTime from, LocalDateTime to, long excludeSeriesId);
+    void occurrenceDeleted(Event event);
+}
@@ -0,0 +1,378 @@
+package com.example.eventservice.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.example.eventservice.dto.EventDTO;
+import com.example.eventservice.dto.EventSeriesDTO;
+import com.example.eventservice.model.Event;
+import com.example.eventservice.model.EventSeries;
+import com.example.eventservice.repository.EventRepository;
+import com.example.eventservice.repository.EventSeriesRepository;
+
+/**
+ * Recurring events stored as one event_series row. Occurrences are expanded from the rule on
+ * demand and only become rows in events when something needs a real event ID, such as a
+ * registration; a materialized occurrence then replaces its expanded counterpart.
+ */
+@Service
+public class EventSeriesServiceImpl implements EventSeriesService {
+
+    private static final Logger log = LoggerFactory.getLogger(EventSeriesServiceImpl.class);
+
+    private final EventSeriesRepository seriesRepository;
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final UpcomingEventIndex upcomingEventIndex;
+    private final EventSearchIndex searchIndex;
+    private final CalendarFeeds calendarFeeds;
+    private final VenueSchedule venueSchedule;
+    private final ConcurrentHashMap<Long, Schedule> schedules = new ConcurrentHashMap<>();
+
+    @Value("${event.service.validation.capacity.min:1}")
+    private int minCapacity;
+
+    @Value("${event.service.validation.capacity.max:1000}")
+    private int maxCapacity;
+
+    @Value("${event.service.validation.capacity.default:100}")
+    private int defaultCapacity;
+
+    @Value("${event.service.series.max-occurrences:1000}")
+    private int maxOccurrences;
+
+    @Value("${event.service.series.default-window-days:90}")
+    private int defaultWindowDays;
+
+    @Autowired
+    public EventSeriesServiceImpl(EventSeriesRepository seriesRepository, EventRepository eventRepository, EventMapper eventMapper,
+                                  UpcomingEventIndex upcomingEventIndex, EventSearchIndex searchIndex, CalendarFeeds calendarFeeds,
+                                  VenueSchedule venueSchedule) {
+        this.seriesRepository = seriesRepository;
+        this.eventRepository = eventRepository;
+        this.eventMapper = eventMapper;
+        this.upcomingEventIndex = upcomingEventIndex;
+        this.searchIndex = searchIndex;
+        this.calendarFeeds = calendarFeeds;
+        this.venueSchedule = venueSchedule;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (EventSeries series : seriesRepository.findAll()) {
+            try {
+                schedules.put(series.get_Id(), new Schedule(series));
+            } catch (IllegalArgumentException e) {
+                log.warn("Skipping event series {} with an unusable rule: {}", series.get_Id(), e.getMessage());
+            }
+        }
+        eventRepository.forEachSeriesOccurrence((seriesId, occurrence) -> {
+            Schedule schedule = schedules.get(seriesId);
+            if (schedule != null) {
+                schedule.materialized.add(occurrence);
+            }
+        });
+        log.info("Loaded {} event series", schedules.size());
+    }
+
+    @Override
+    public List<EventSeriesDTO> getAllSeries() {
+        return schedules.values().stream()
+                .map(schedule -> eventMapper.toDto(schedule.series))
+                .sorted(Comparator.comparingLong(EventSeriesDTO::get_Id))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<EventSeriesDTO> getSeriesById(long id) {
+        return Optional.ofNullable(schedules.get(id)).map(schedule -> eventMapper.toDto(schedule.series));
+    }
+
+    @Override
+    public EventSeriesDTO createSeries(EventSeriesDTO seriesDTO) {
+        EventSeries series = eventMapper.toEntity(seriesDTO);
+        if (series.get_Name() == null || series.get_StartDateTime() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A series needs a name and a start date and time");
+        }
+        if (series.get_Capacity() == 0) {
+            series.set_Capacity(defaultCapacity);
+        }
+        if (series.get_Capacity() < minCapacity || series.get_Capacity() > maxCapacity) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Capacity must be between " + minCapacity + " and " + maxCapacity);
+        }
+        series.set_DurationMinutes(venueSchedule.duration(series.get_DurationMinutes()));
+        try {
+            RecurrenceRule.parse(series.get_Rule());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        // Every occurrence in the look-ahead window must fit around existing bookings and other series
+        EventSeries saved = venueSchedule.whileBooking(() -> {
+            Schedule candidate = new Schedule(series);
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime from = series.get_StartDateTime().isAfter(now) ? series.get_StartDateTime() : now;
+            Iterator<Event> occurrences = candidate.pending(from, from.plusDays(defaultWindowDays));
+            for (int checked = 0; occurrences.hasNext() && checked < maxOccurrences; checked++) {
+                Event occurrence = occurrences.next();
+                List<Event> conflicts = new ArrayList<>(venueSchedule.conflicts(occurrence));
+                conflicts.addAll(pendingOccurrencesAt(occurrence.get_Location(), occurrence.get_DateTime(),
+                        VenueSchedule.endOf(occurrence), 0));
+                if (!conflicts.isEmpty()) {
+                    Event conflict = conflicts.get(0);
+                    throw new ResponseStatusException(HttpStatus.CONFLICT, "The occurrence at " + occurrence.get_DateTime()
+                        + " overlaps '" + conflict.get_Name() + "' from " + conflict.get_DateTime() + " to " + VenueSchedule.endOf(conflict));
+                }
+            }
+            EventSeries created = seriesRepository.save(series);
+            schedules.put(created.get_Id(), new Schedule(created));
+            return created;
+        });
+        calendarFeeds.seriesChanged(saved.get_ClubId());
+        return eventMapper.toDto(saved);
+    }
+
+    // Occurrences already materialized stay as ordinary events
+    @Override
+    public void deleteSeries(long id) {
+        seriesRepository.deleteById(id);
+        Schedule removed = schedules.remove(id);
+        if (removed != null) {
+            calendarFeeds.seriesChanged(removed.series.get_ClubId());
+        }
+    }
+
+    @Override
+    public List<EventDTO> getOccurrences(long seriesId, LocalDateTime from, LocalDateTime to, int limit) {
+        Schedule schedule = schedule(seriesId);
+        if (limit < 1 || limit > maxOccurrences) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Limit must be between 1 and " + maxOccurrences);
+        }
+        LocalDateTime start = from != null ? from : LocalDateTime.now();
+        LocalDateTime end = to != null ? to : start.plusDays(defaultWindowDays);
+
+        // Materialized rows carry real IDs; every other slot is expanded from the rule
+        Map<LocalDateTime, Event> materialized = eventRepository.findBySeriesIdBetween(seriesId, start, end).stream()
+                .collect(Collectors.toMap(Event::get_SeriesOccurrence, event -> event, (first, second) -> first));
+        List<EventDTO> occurrences = new ArrayList<>();
+        Iterator<LocalDateTime> slots = schedule.rule.occurrences(schedule.series.get_StartDateTime(), start);
+        while (slots.hasNext() && occurrences.size() < limit) {
+            LocalDateTime slot = slots.next();
+            if (slot.isAfter(end)) {
+                break;
+            }
+            Event event = materialized.getOrDefault(slot, schedule.occurrence(slot));
+            occurrences.add(eventMapper.toDto(event));
+        }
+        return occurrences;
+    }
+
+    @Override
+    public List<EventDTO> materializeOccurrences(long seriesId, LocalDateTime from, LocalDateTime to) {
+        Schedule schedule = schedule(seriesId);
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A window with from <= to is required");
+        }
+        List<LocalDateTime> slots = new ArrayList<>();
+        Iterator<LocalDateTime> expanded = schedule.rule.occurrences(schedule.series.get_StartDateTime(), from);
+        while (expanded.hasNext()) {
+            LocalDateTime slot = expanded.next();
+            if (slot.isAfter(to)) {
+                break;
+            }
+            if (slots.size() == maxOccurrences) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + maxOccurrences + " occurrences can be materialized at once");
+            }
+            slots.add(slot);
+        }
+
+        // Insert only the missing slots in one batch, after checking each against the venue's bookings.
+        // A request from another instance for the same slots loses on the unique key, after which the
+        // rows it raced with are simply read back
+        List<Event> created = venueSchedule.whileBooking(() -> {
+            for (int attempt = 0; ; attempt++) {
+                Set<LocalDateTime> existing = eventRepository.findBySeriesIdBetween(seriesId, from, to).stream()
+                        .map(Event::get_SeriesOccurrence)
+                        .collect(Collectors.toSet());
+                List<Event> missing = slots.stream()
+                        .filter(slot -> !existing.contains(slot))
+                        .map(schedule::occurrence)
+                        .collect(Collectors.toList());
+                for (Event occurrence : missing) {
+                    List<Event> conflicts = new ArrayList<>(venueSchedule.conflicts(occurrence));
+                    conflicts.addAll(pendingOccurrencesAt(occurrence.get_Location(), occurrence.get_DateTime(),
+                            VenueSchedule.endOf(occurrence), seriesId));
+                    if (!conflicts.isEmpty()) {
+                        Event conflict = conflicts.get(0);
+                        throw new ResponseStatusException(HttpStatus.CONFLICT, "The occurrence at " + occurrence.get_DateTime()
+                            + " overlaps '" + conflict.get_Name() + "' at " + conflict.get_DateTime());
+                    }
+                }
+                try {
+                    List<Event> saved = eventRepository.saveAll(missing);
+                    saved.forEach(venueSchedule::put);
+                    return saved;
+                } catch (DuplicateKeyException e) {
+                    if (attempt == 2) {
+                        throw e;
+                    }
+                }
+            }
+        });
+        for (Event event : created) {
+            schedule.materialized.add(event.get_SeriesOccurrence());
+            upcomingEventIndex.put(event);
+            searchIndex.put(event);
+            calendarFeeds.eventChanged(null, event);
+        }
+        return eventRepository.findBySeriesIdBetween(seriesId, from, to).stream()
+                .sorted(Comparator.comparing(Event::get_SeriesOccurrence))
+                .map(eventMapper::toDto)
+                .collect(Collectors.toList());
+    }
+
+    // The occurrence as a real event, written on first use so it can be registered for
+    @Override
+    public EventDTO materializeOccurrence(long seriesId, LocalDateTime occurrence) {
+        Schedule schedule = schedule(seriesId);
+        Iterator<LocalDateTime> slots = schedule.rule.occurrences(schedule.series.get_StartDateTime(), occurrence);
+        if (!slots.hasNext() || !slots.next().equals(occurrence)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Event series " + seriesId + " has no occurrence at " + occurrence);
+        }
+        return materializeOccurrences(seriesId, occurrence, occurrence).get(0);
+    }
+
+    // Expanded, not yet materialized occurrences of every series, merged in start order
+    @Override
+    public Iterator<Event> upcomingOccurrences(LocalDateTime from, LocalDateTime to, Integer clubId) {
+        List<Iterator<Event>> sources = new ArrayList<>();
+        for (Schedule schedule : schedules.values()) {
+            if (clubId == null || schedule.series.get_ClubId() == clubId) {
+                sources.add(schedule.pending(from, to));
+            }
+        }
+        return EventIterators.mergeByStart(sources);
+    }
+
+    // Unmaterialized occurrences at the location overlapping [from, to), skipping one series (0 skips none)
+    @Override
+    public List<Event> pendingOccurrencesAt(String location, LocalDateTime from, LocalDateTime to, long excludeSeriesId) {
+        String venue = VenueSchedule.venueKey(location);
+        List<Event> overlapping = new ArrayList<>();
+        if (venue == null) {
+            return overlapping;
+        }
+        for (Schedule schedule : schedules.values()) {
+            if (schedule.series.get_Id() == excludeSeriesId || !venue.equals(schedule.venue)) {
+                continue;
+            }
+            // An occurrence overlaps when it starts before to and ends after from
+            Iterator<Event> pending = schedule.pending(from.minusMinutes(schedule.series.get_DurationMinutes()).plusNanos(1), null);
+            while (pending.hasNext()) {
+                Event occurrence = pending.next();
+                if (!occurrence.get_DateTime().isBefore(to)) {
+                    break;
+                }
+                overlapping.add(occurrence);
+            }
+        }
+        overlapping.sort(Comparator.comparing(Event::get_DateTime));
+        return overlapping;
+    }
+
+    @Override
+    public void occurrenceDeleted(Event event) {
+        Schedule schedule = event.get_SeriesId() != 0 ? schedules.get(event.get_SeriesId()) : null;
+        if (schedule != null && event.get_SeriesOccurrence() != null) {
+            schedule.materialized.remove(event.get_SeriesOccurrence());
+        }
+    }
+
+    private Schedule schedule(long seriesId) {
+        Schedule schedule = schedules.get(seriesId);
+        if (schedule == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Event series " + seriesId + " not found");
+        }
+        return schedule;
+    }
+
+    private static final class Schedule {
+        final EventSeries series;
+        final RecurrenceRule rule;
+        final String venue;
+        // Slots that exist as rows in events, keyed by their original start time
+        final Set<LocalDateTime> materialized = new ConcurrentSkipListSet<>();
+
+        Schedule(EventSeries series) {
+            this.series = series;
+            this.rule = RecurrenceRule.parse(series.get_Rule());
+            this.venue = VenueSchedule.venueKey(series.get_Location());
+        }
+
+        Event occurrence(LocalDateTime slot) {
+            Event event = new Event(0, series.get_Name(), series.get_Description(), series.get_Location(), slot,
+                    series.get_ClubId(), series.get_Capacity());
+            event.set_DurationMinutes(series.get_DurationMinutes());
+            event.set_SeriesId(series.get_Id());
+            event.set_SeriesOccurrence(slot);
+            return event;
+        }
+
+        Iterator<Event> pending(LocalDateTime from, LocalDateTime to) {
+            Iterator<LocalDateTime> slots = rule.occurrences(series.get_StartDateTime(), from);
+            return new Iterator<>() {
+                private LocalDateTime next = advance();
+
+                private LocalDateTime advance() {
+                    while (slots.hasNext()) {
+                        LocalDateTime slot = slots.next();
+                        if (to != null && slot.isAfter(to)) {
+                            return null;
+                        }
+                        if (!materialized.contains(slot)) {
+                            return slot;
+                        }
+                    }
+                    return null;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return next != null;
+                }
+
+                @Override
+                public Event next() {
+                    if (next == null) {
+                        throw new NoSuchElementException();
+                    }
+                    Event event = occurrence(next);
+                    next = advance();
+                    return event;
+                }
+            };
+        }
+    }
+}
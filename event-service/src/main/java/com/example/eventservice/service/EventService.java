@@ -1,8 +1,11 @@
 package com.example.eventservice.service;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import com.example.eventservice.dto.EventDTO;
 
@@ -10,11 +13,19 @@ public interface EventService {
     List<EventDTO> getAllEvents();
     Optional<EventDTO> getEventById(long id);
     List<EventDTO> getEventsByClub(String clubName);
-    List<EventDTO> getUpcomingEvents();
+    List<EventDTO> getUpcomingEvents(LocalDateTime from, LocalDateTime to, Integer clubId, int offset, int limit);
+    List<EventDTO> searchEvents(String query, int limit);
     EventDTO createEvent(EventDTO eventDTO);
     EventDTO updateEvent(long id, EventDTO eventDTO);
     void deleteEvent(long id);
+    Map<String, Object> getFreeSlots(String location, LocalDate week, int minMinutes);
+    CalendarFeed getClubCalendar(int clubId);
+    CalendarFeed getMemberCalendar(long memberId);
     boolean registerMemberForEvent(long eventId, long memberId);
     Map<String, Object> getEventStatistics(long id);
+    Map<String, Object> getClubStatistics(int clubId);
+    Stream<Map<String, Object>> getEventStatistics(List<Long> ids);
+    Map<String, Object> getClubLookupStatistics();
+    void invalidateClubLookup(String clubName);
     // You can add an unregister method here as well
 }
\ No newline at end of file
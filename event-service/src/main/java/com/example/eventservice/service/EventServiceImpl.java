@@ -1,46 +1,97 @@
 package com.example.eventservice.service;
 
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.example.eventservice.dto.EventDTO;
 import com.example.eventservice.model.Event;
 import com.example.eventservice.repository.EventRepository;
+import com.example.eventservice.repository.OutboxRepository;
 
 @Service
 public class EventServiceImpl implements EventService {
 
     private final EventRepository eventRepository;
-    private final ModelMapper modelMapper;
+    private final OutboxRepository outboxRepository;
+    private final ClubLookup clubLookup;
+    private final UpcomingEventIndex upcomingEventIndex;
+    private final EventSearchIndex searchIndex;
+    private final CalendarFeeds calendarFeeds;
+    private final EventSeriesService eventSeriesService;
+    private final VenueSchedule venueSchedule;
+    private final EventMapper eventMapper;
     private final RestClient restClient;
     // You'd typically load these from a config file
-    private final String clubServiceUrl = "http://localhost:8081";
     private final String registrationServiceUrl = "http://localhost:8084"; // Assuming port for registration service
 
+    @Value("${event.service.validation.capacity.min:1}")
+    private int minCapacity;
+
+    @Value("${event.service.validation.capacity.max:1000}")
+    private int maxCapacity;
+
+    @Value("${event.service.validation.capacity.default:100}")
+    private int defaultCapacity;
+
+    @Value("${event.service.upcoming.max-limit:1000}")
+    private int maxUpcomingLimit;
+
+    @Value("${event.service.search.max-limit:100}")
+    private int maxSearchLimit;
+
+    @Value("${event.service.statistics.batch-max-size:1000}")
+    private int maxStatisticsBatch;
+
     @Autowired
-    public EventServiceImpl(EventRepository eventRepository, ModelMapper modelMapper, RestClient restClient) {
+    public EventServiceImpl(EventRepository eventRepository, OutboxRepository outboxRepository, ClubLookup clubLookup,
+                            UpcomingEventIndex upcomingEventIndex, EventSearchIndex searchIndex, CalendarFeeds calendarFeeds,
+                            EventSeriesService eventSeriesService, VenueSchedule venueSchedule, EventMapper eventMapper,
+                            RestClient restClient) {
         this.eventRepository = eventRepository;
-        this.modelMapper = modelMapper;
+        this.outboxRepository = outboxRepository;
+        this.clubLookup = clubLookup;
+        this.upcomingEventIndex = upcomingEventIndex;
+        this.searchIndex = searchIndex;
+        this.calendarFeeds = calendarFeeds;
+        this.eventSeriesService = eventSeriesService;
+        this.venueSchedule = venueSchedule;
+        this.eventMapper = eventMapper;
         this.restClient = restClient;
     }
     
     // Helper method to convert Entity to DTO
     private EventDTO toDto(Event event) {
-        return modelMapper.map(event, EventDTO.class);
+        return eventMapper.toDto(event);
     }
     
     // Helper method to convert DTO to Entity
     private Event toEntity(EventDTO dto) {
-        return modelMapper.map(dto, Event.class);
+        return eventMapper.toEntity(dto);
     }
 
     @Override
@@ -55,47 +106,201 @@ public class EventServiceImpl implements EventService {
 
     @Override
     public List<EventDTO> getEventsByClub(String clubName) {
-        // 1. Call ClubService to get the club's ID from its name
-        // This assumes ClubService has a DTO that includes the club's ID
+        // 1. Resolve the club's ID locally; club-service is only asked on a miss or in the background
+        Optional<Integer> clubId;
         try {
-            Map<String, Object> club = restClient.get()
-                .uri(clubServiceUrl + "/clubs/name/" + clubName)
-                .retrieve()
-                .body(Map.class);
-            
-            if (club != null && club.containsKey("_Id")) {
-                int clubId = (Integer) club.get("_Id");
-                // 2. Use the clubId to find events
-                return eventRepository.findByClubId(clubId).stream().map(this::toDto).collect(Collectors.toList());
-            }
+            clubId = clubLookup.clubId(clubName);
         } catch (Exception e) {
-            // Handle cases where club is not found or club-service is down
+            // Club-service is down and this name was never resolved
             return Collections.emptyList();
         }
-        return Collections.emptyList();
+        // 2. Use the clubId to find events
+        return clubId.map(id -> eventRepository.findByClubId(id).stream().map(this::toDto).collect(Collectors.toList()))
+                .orElse(Collections.emptyList());
+    }
+
+    @Override
+    public Map<String, Object> getClubLookupStatistics() {
+        return clubLookup.getStatistics();
     }
 
     @Override
-    public List<EventDTO> getUpcomingEvents() {
-        return eventRepository.findUpcoming().stream().map(this::toDto).collect(Collectors.toList());
+    public void invalidateClubLookup(String clubName) {
+        if (clubName == null) {
+            clubLookup.invalidateAll();
+        } else {
+            clubLookup.invalidate(clubName);
+        }
+    }
+
+    @Override
+    public List<EventDTO> getUpcomingEvents(LocalDateTime from, LocalDateTime to, Integer clubId, int offset, int limit) {
+        if (offset < 0 || limit < 1 || limit > maxUpcomingLimit) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Offset must be at least 0 and limit between 1 and " + maxUpcomingLimit);
+        }
+        // Served entirely from memory: indexed events merged with expanded series occurrences
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start = from == null || from.isBefore(now) ? now : from;
+        Iterator<Event> merged = EventIterators.mergeByStart(List.of(
+                upcomingEventIndex.window(start, to, clubId),
+                eventSeriesService.upcomingOccurrences(start.plusNanos(1), to, clubId)));
+        List<EventDTO> page = new ArrayList<>();
+        for (int skipped = 0; merged.hasNext() && page.size() < limit; ) {
+            Event event = merged.next();
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            page.add(toDto(event));
+        }
+        return page;
+    }
+
+    @Override
+    public List<EventDTO> searchEvents(String query, int limit) {
+        if (query == null || query.isBlank() || limit < 1 || limit > maxSearchLimit) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "A non-empty query and a limit between 1 and " + maxSearchLimit + " are required");
+        }
+        return searchIndex.search(query, limit).stream().map(this::toDto).collect(Collectors.toList());
     }
 
     @Override
     public EventDTO createEvent(EventDTO eventDTO) {
         Event event = toEntity(eventDTO);
-        return toDto(eventRepository.save(event));
+        applyCapacity(event, defaultCapacity);
+        event.set_DurationMinutes(venueSchedule.duration(event.get_DurationMinutes()));
+        // Series occurrences are only created through materialization
+        event.set_SeriesId(0);
+        event.set_SeriesOccurrence(null);
+        Event savedEvent = book(event, () -> eventRepository.save(event));
+        upcomingEventIndex.put(savedEvent);
+        searchIndex.put(savedEvent);
+        calendarFeeds.eventChanged(null, savedEvent);
+        return toDto(savedEvent);
     }
 
     @Override
+    @Transactional
     public EventDTO updateEvent(long id, EventDTO eventDTO) {
         Event event = toEntity(eventDTO);
         event.set_Id(id); // Ensure the ID from the path is used
-        return toDto(eventRepository.update(event));
+        Optional<Event> before = eventRepository.findById(id);
+        // An update without a capacity keeps the stored one
+        applyCapacity(event, before.map(Event::get_Capacity).orElse(defaultCapacity));
+        event.set_DurationMinutes(venueSchedule.duration(event.get_DurationMinutes()));
+        // The update leaves series_id and series_occurrence untouched
+        before.ifPresent(existing -> {
+            event.set_SeriesId(existing.get_SeriesId());
+            event.set_SeriesOccurrence(existing.get_SeriesOccurrence());
+        });
+        Event updated = before.isPresent() ? book(event, () -> eventRepository.update(event)) : eventRepository.update(event);
+        // Registrations keep a copy of the name; the change is queued atomically with the update
+        if (before.isPresent() && !Objects.equals(before.get().get_Name(), event.get_Name())) {
+            outboxRepository.append(id, event.get_Name());
+        }
+        if (before.isPresent()) {
+            upcomingEventIndex.put(updated);
+            searchIndex.put(updated);
+            calendarFeeds.eventChanged(before.get(), updated);
+        }
+        return toDto(updated);
+    }
+
+    // Writes the event only if its location is free for its whole duration, then records the booking
+    private Event book(Event event, Supplier<Event> write) {
+        return venueSchedule.whileBooking(() -> {
+            List<Event> conflicts = new ArrayList<>(venueSchedule.conflicts(event));
+            if (event.get_DateTime() != null) {
+                conflicts.addAll(eventSeriesService.pendingOccurrencesAt(event.get_Location(), event.get_DateTime(),
+                        VenueSchedule.endOf(event), event.get_SeriesId()));
+            }
+            if (!conflicts.isEmpty()) {
+                Event conflict = conflicts.get(0);
+                throw new ResponseStatusException(HttpStatus.CONFLICT, event.get_Location() + " is already booked by '"
+                    + conflict.get_Name() + "' from " + conflict.get_DateTime() + " to " + VenueSchedule.endOf(conflict));
+            }
+            Event saved = write.get();
+            venueSchedule.put(saved);
+            return saved;
+        });
+    }
+
+    @Override
+    public Map<String, Object> getFreeSlots(String location, LocalDate week, int minMinutes) {
+        if (VenueSchedule.venueKey(location) == null || week == null || minMinutes < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A location, a week and a positive minimum length are required");
+        }
+        LocalDateTime weekStart = week.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+        LocalDateTime weekEnd = weekStart.plusWeeks(1);
+
+        // Booked events and unmaterialized series occurrences, swept in start order for the gaps between them
+        List<Event> busy = new ArrayList<>(venueSchedule.bookings(location, weekStart, weekEnd));
+        busy.addAll(eventSeriesService.pendingOccurrencesAt(location, weekStart, weekEnd, 0));
+        busy.sort(Comparator.comparing(Event::get_DateTime));
+        List<Map<String, Object>> slots = new ArrayList<>();
+        LocalDateTime free = weekStart;
+        for (Event event : busy) {
+            addFreeSlot(slots, free, event.get_DateTime(), minMinutes);
+            LocalDateTime end = VenueSchedule.endOf(event);
+            if (end.isAfter(free)) {
+                free = end;
+            }
+        }
+        addFreeSlot(slots, free, weekEnd, minMinutes);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("location", location);
+        response.put("weekStart", weekStart);
+        response.put("weekEnd", weekEnd);
+        response.put("freeSlots", slots);
+        return response;
+    }
+
+    private static void addFreeSlot(List<Map<String, Object>> slots, LocalDateTime start, LocalDateTime end, int minMinutes) {
+        long minutes = Duration.between(start, end).toMinutes();
+        if (minutes >= minMinutes) {
+            Map<String, Object> slot = new LinkedHashMap<>();
+            slot.put("start", start);
+            slot.put("end", end);
+            slot.put("minutes", minutes);
+            slots.add(slot);
+        }
+    }
+
+    // Events without a capacity get the fallback; anything outside the bounds is rejected
+    private void applyCapacity(Event event, int fallback) {
+        if (event.get_Capacity() == 0) {
+            event.set_Capacity(fallback);
+        }
+        if (event.get_Capacity() < minCapacity || event.get_Capacity() > maxCapacity) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Capacity must be between " + minCapacity + " and " + maxCapacity);
+        }
     }
 
     @Override
     public void deleteEvent(long id) {
+        Optional<Event> before = eventRepository.findById(id);
         eventRepository.deleteById(id);
+        venueSchedule.remove(id);
+        upcomingEventIndex.remove(id);
+        searchIndex.remove(id);
+        before.ifPresent(event -> {
+            calendarFeeds.eventChanged(event, null);
+            eventSeriesService.occurrenceDeleted(event);
+        });
+    }
+
+    @Override
+    public CalendarFeed getClubCalendar(int clubId) {
+        return calendarFeeds.clubFeed(clubId, (from, to) -> eventSeriesService.upcomingOccurrences(from, to, clubId));
+    }
+
+    @Override
+    public CalendarFeed getMemberCalendar(long memberId) {
+        return calendarFeeds.memberFeed(memberId);
     }
     
     @Override
@@ -149,4 +354,58 @@ public class EventServiceImpl implements EventService {
         
         return stats;
     }
-}
\ No newline at end of file
+
+    @Override
+    public Map<String, Object> getClubStatistics(int clubId) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("clubId", clubId);
+        stats.putAll(eventRepository.countByClubId(clubId));
+        return stats;
+    }
+
+    @Override
+    public Stream<Map<String, Object>> getEventStatistics(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > maxStatisticsBatch) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Between 1 and " + maxStatisticsBatch + " event IDs are required");
+        }
+        List<Long> uniqueIds = ids.stream().distinct().collect(Collectors.toList());
+
+        // 1. One IN query for the events and one batched call for their registration counts
+        Map<Long, Event> events = eventRepository.findByIds(uniqueIds).stream()
+                .collect(Collectors.toMap(Event::get_Id, event -> event));
+        List<Long> foundIds = uniqueIds.stream().filter(events::containsKey).collect(Collectors.toList());
+        Map<String, Map<String, Object>> registrationStats = null;
+        if (!foundIds.isEmpty()) {
+            try {
+                registrationStats = restClient.post()
+                    .uri(registrationServiceUrl + "/registrations/event/statistics/batch")
+                    .body(foundIds)
+                    .retrieve()
+                    .body(new ParameterizedTypeReference<Map<String, Map<String, Object>>>() {});
+            } catch (Exception e) {
+                // Events are still reported, each with the same error marker as the single-event endpoint
+            }
+        }
+
+        // 2. Rows are built as the caller writes them out, in request order
+        Map<String, Map<String, Object>> counts = registrationStats;
+        return ids.stream().map(id -> {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("eventId", id);
+            Event event = events.get(id);
+            if (event == null) {
+                stats.put("error", "Event not found");
+                return stats;
+            }
+            stats.put("eventName", event.get_Name());
+            if (counts == null) {
+                stats.put("registeredMembers", "Error fetching data");
+            } else {
+                Map<String, Object> eventCounts = counts.get(String.valueOf(id));
+                stats.put("registeredMembers", eventCounts != null ? eventCounts.getOrDefault("count", 0) : 0);
+            }
+            return stats;
+        });
+    }
+}
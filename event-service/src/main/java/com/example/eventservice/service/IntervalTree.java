@@ -0,0 +1,178 @@
+package com.example.eventservice.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.eventservice.model.Event;
+
+/**
+ * Balanced (AVL) tree of half-open [start, end) intervals ordered by start and event ID. Every
+ * node also records the latest end in its subtree, so an overlap query skips whole subtrees and
+ * costs O(log n + k) for k matches. Not thread-safe; VenueSchedule guards each tree.
+ */
+final class IntervalTree {
+
+    private Node root;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    void insert(Event event, LocalDateTime start, LocalDateTime end) {
+        root = insert(root, new Node(event, start, end));
+        size++;
+    }
+
+    void remove(long eventId, LocalDateTime start) {
+        int before = size;
+        root = remove(root, start, eventId);
+        if (size == before) {
+            throw new IllegalStateException("Event " + eventId + " is not in this tree");
+        }
+    }
+
+    // Events whose interval overlaps [from, to), in start order
+    List<Event> overlapping(LocalDateTime from, LocalDateTime to) {
+        List<Event> matches = new ArrayList<>();
+        collect(root, from, to, matches);
+        return matches;
+    }
+
+    private static void collect(Node node, LocalDateTime from, LocalDateTime to, List<Event> matches) {
+        if (node == null || !node.maxEnd.isAfter(from)) {
+            return;
+        }
+        collect(node.left, from, to, matches);
+        if (!node.start.isBefore(to)) {
+            return;
+        }
+        if (node.end.isAfter(from)) {
+            matches.add(node.event);
+        }
+        collect(node.right, from, to, matches);
+    }
+
+    private static int compare(LocalDateTime start, long id, Node node) {
+        int byStart = start.compareTo(node.start);
+        return byStart != 0 ? byStart : Long.compare(id, node.event.get_Id());
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (compare(added.start, added.event.get_Id(), node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return balance(node);
+    }
+
+    private Node remove(Node node, LocalDateTime start, long id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, start, id);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, start, id);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = removeMin(node.right);
+            successor.left = node.left;
+            return balance(successor);
+        }
+        return balance(node);
+    }
+
+    private static Node removeMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return balance(node);
+    }
+
+    private static Node balance(Node node) {
+        update(node);
+        int skew = height(node.left) - height(node.right);
+        if (skew > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (skew < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        LocalDateTime maxEnd = node.end;
+        if (node.left != null && node.left.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static final class Node {
+        final Event event;
+        final LocalDateTime start;
+        final LocalDateTime end;
+        LocalDateTime maxEnd;
+        int height = 1;
+        Node left;
+        Node right;
+
+        Node(Event event, LocalDateTime start, LocalDateTime end) {
+            this.event = event;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+    }
+}
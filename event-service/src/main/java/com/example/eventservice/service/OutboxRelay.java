@@ -0,0 +1,78 @@
+package com.example.eventservice.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import com.example.eventservice.model.OutboxEntry;
+import com.example.eventservice.repository.OutboxRepository;
+
+/**
+ * Delivers event renames recorded in the outbox to registration-service, which keeps a
+ * denormalized copy of each event's name. Entries are removed only after a successful
+ * delivery, so a failed call is simply retried on the next run.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxRepository outboxRepository;
+    private final RestClient restClient;
+    private final String registrationServiceUrl;
+
+    @Value("${event.service.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Autowired
+    public OutboxRelay(OutboxRepository outboxRepository, RestClient restClient,
+                       @Value("${event.service.outbox.registration-service-url:http://localhost:8084}") String registrationServiceUrl) {
+        this.outboxRepository = outboxRepository;
+        this.restClient = restClient;
+        this.registrationServiceUrl = registrationServiceUrl;
+    }
+
+    @Scheduled(fixedDelayString = "${event.service.outbox.relay-interval:1000}")
+    public void relay() {
+        List<OutboxEntry> batch;
+        do {
+            batch = outboxRepository.findOldest(batchSize);
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            // Only the latest name per event in the batch needs to travel
+            Map<Long, String> latest = new LinkedHashMap<>();
+            batch.forEach(entry -> latest.put(entry.get_EventId(), entry.get_Name()));
+            List<Map<String, Object>> changes = new ArrayList<>(latest.size());
+            latest.forEach((eventId, name) -> {
+                Map<String, Object> change = new LinkedHashMap<>();
+                change.put("_Id", eventId);
+                change.put("_Name", name);
+                changes.add(change);
+            });
+
+            try {
+                restClient.put()
+                    .uri(registrationServiceUrl + "/registrations/names/events")
+                    .body(changes)
+                    .retrieve()
+                    .toBodilessEntity();
+            } catch (Exception e) {
+                log.warn("Relaying {} event renames failed, will retry: {}", changes.size(), e.toString());
+                return;
+            }
+            outboxRepository.deleteByIds(batch.stream().map(OutboxEntry::get_Id).collect(Collectors.toList()));
+        } while (batch.size() == batchSize);
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.eventservice.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * The subset of RFC 5545 RRULE that club schedules need: FREQ=DAILY, WEEKLY or MONTHLY with
+ * INTERVAL, COUNT, UNTIL and, for weekly rules, BYDAY. Weeks start on Monday, UNTIL is read
+ * as local time, and monthly dates that do not exist in a month (the 31st) are skipped.
+ */
+final class RecurrenceRule {
+
+    enum Frequency { DAILY, WEEKLY, MONTHLY }
+
+    private static final Map<String, DayOfWeek> DAYS = Map.of(
+            "MO", DayOfWeek.MONDAY, "TU", DayOfWeek.TUESDAY, "WE", DayOfWeek.WEDNESDAY, "TH", DayOfWeek.THURSDAY,
+            "FR", DayOfWeek.FRIDAY, "SA", DayOfWeek.SATURDAY, "SU", DayOfWeek.SUNDAY);
+    // Stops a rule that can never produce another date from spinning forever
+    private static final int MAX_EMPTY_PERIODS = 1000;
+
+    private final Frequency frequency;
+    private final int interval;
+    private final Integer count;
+    private final LocalDateTime until;
+    private final Set<DayOfWeek> byDay;
+
+    private RecurrenceRule(Frequency frequency, int interval, Integer count, LocalDateTime until, Set<DayOfWeek> byDay) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+        this.byDay = byDay;
+    }
+
+    static RecurrenceRule parse(String rule) {
+        if (rule == null || rule.isBlank()) {
+            throw new IllegalArgumentException("A recurrence rule is required");
+        }
+        Frequency frequency = null;
+        int interval = 1;
+        Integer count = null;
+        LocalDateTime until = null;
+        Set<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+        String body = rule.startsWith("RRULE:") ? rule.substring(6) : rule;
+        for (String part : body.split(";")) {
+            String[] pair = part.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Malformed rule part: " + part);
+            }
+            String value = pair[1].trim();
+            try {
+                switch (pair[0].trim().toUpperCase(Locale.ROOT)) {
+                    case "FREQ" -> frequency = Frequency.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "INTERVAL" -> interval = Integer.parseInt(value);
+                    case "COUNT" -> count = Integer.parseInt(value);
+                    case "UNTIL" -> until = parseUntil(value);
+                    case "BYDAY" -> {
+                        for (String day : value.split(",")) {
+                            DayOfWeek dayOfWeek = DAYS.get(day.trim().toUpperCase(Locale.ROOT));
+                            if (dayOfWeek == null) {
+                                throw new IllegalArgumentException("Unsupported BYDAY value: " + day);
+                            }
+                            byDay.add(dayOfWeek);
+                        }
+                    }
+                    default -> throw new IllegalArgumentException("Unsupported rule part: " + pair[0]);
+                }
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid value in rule part: " + part);
+            }
+        }
+        if (frequency == null) {
+            throw new IllegalArgumentException("FREQ must be DAILY, WEEKLY or MONTHLY");
+        }
+        if (interval < 1 || (count != null && count < 1)) {
+            throw new IllegalArgumentException("INTERVAL and COUNT must be positive");
+        }
+        if (!byDay.isEmpty() && frequency != Frequency.WEEKLY) {
+            throw new IllegalArgumentException("BYDAY is only supported for weekly rules");
+        }
+        return new RecurrenceRule(frequency, interval, count, until, byDay);
+    }
+
+    private static LocalDateTime parseUntil(String value) {
+        String local = value.endsWith("Z") ? value.substring(0, value.length() - 1) : value;
+        if (local.length() == 8) {
+            return LocalDate.parse(local, DateTimeFormatter.BASIC_ISO_DATE).atTime(23, 59, 59);
+        }
+        return LocalDateTime.parse(local, DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss"));
+    }
+
+    boolean isFinite() {
+        return count != null || until != null;
+    }
+
+    // Occurrence start times at or after from, in order; generated one period at a time
+    Iterator<LocalDateTime> occurrences(LocalDateTime start, LocalDateTime from) {
+        // Without COUNT nothing before the window matters, so whole periods can be skipped arithmetically
+        long firstPeriod = 0;
+        if (count == null && from.isAfter(start)) {
+            firstPeriod = Math.max(0, periodsBetween(start, from) / interval - 1);
+        }
+        long skipTo = firstPeriod;
+
+        return new Iterator<>() {
+            private long period = skipTo;
+            private int emitted;
+            private boolean finished;
+            private final Deque<LocalDateTime> pending = new ArrayDeque<>();
+
+            @Override
+            public boolean hasNext() {
+                int emptyPeriods = 0;
+                while (pending.isEmpty() && !finished) {
+                    for (LocalDateTime candidate : expand(start, period++)) {
+                        if (until != null && candidate.isAfter(until)) {
+                            finished = true;
+                            break;
+                        }
+                        if (count != null && emitted >= count) {
+                            finished = true;
+                            break;
+                        }
+                        emitted++;
+                        if (!candidate.isBefore(from)) {
+                            pending.add(candidate);
+                        }
+                    }
+                    if (pending.isEmpty() && ++emptyPeriods > MAX_EMPTY_PERIODS && !isFinite()) {
+                        finished = true;
+                    }
+                }
+                return !pending.isEmpty();
+            }
+
+            @Override
+            public LocalDateTime next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return pending.poll();
+            }
+        };
+    }
+
+    private long periodsBetween(LocalDateTime start, LocalDateTime from) {
+        return switch (frequency) {
+            case DAILY -> ChronoUnit.DAYS.between(start, from);
+            case WEEKLY -> ChronoUnit.WEEKS.between(start, from);
+            case MONTHLY -> ChronoUnit.MONTHS.between(start, from);
+        };
+    }
+
+    // Candidate start times of one period, in order, never before the series start
+    private Deque<LocalDateTime> expand(LocalDateTime start, long period) {
+        Deque<LocalDateTime> candidates = new ArrayDeque<>();
+        long step = period * interval;
+        switch (frequency) {
+            case DAILY -> candidates.add(start.plusDays(step));
+            case MONTHLY -> {
+                LocalDateTime candidate = start.plusMonths(step);
+                if (candidate.getDayOfMonth() == start.getDayOfMonth()) {
+                    candidates.add(candidate);
+                }
+            }
+            case WEEKLY -> {
+                if (byDay.isEmpty()) {
+                    candidates.add(start.plusWeeks(step));
+                } else {
+                    LocalDateTime weekStart = start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).plusWeeks(step);
+                    for (DayOfWeek day : byDay) {
+                        LocalDateTime candidate = weekStart.with(TemporalAdjusters.nextOrSame(day));
+                        if (!candidate.isBefore(start)) {
+                            candidates.add(candidate);
+                        }
+                    }
+                }
+            }
+        }
+        return candidates;
+    }
+}
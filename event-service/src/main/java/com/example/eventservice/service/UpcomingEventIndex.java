@@ -0,0 +1,184 @@
+package com.example.eventservice.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.eventservice.model.Event;
+import com.example.eventservice.repository.EventRepository;
+
+/**
+ * Future events ordered by start time, kept in memory so the upcoming listing never
+ * queries the database. Reads are lock-free; writes are serialized so a periodic
+ * reload from the table cannot lose a change made while it was running.
+ */
+@Component
+public class UpcomingEventIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(UpcomingEventIndex.class);
+    private static final Comparator<Key> ORDER = Comparator.comparing((Key key) -> key.dateTime).thenComparingLong(key -> key.id);
+
+    private final EventRepository eventRepository;
+    private final Object writeLock = new Object();
+    private volatile Index index = new Index();
+    // Changes made while a reload is querying the table, replayed onto the fresh index
+    private List<Event> changedDuringReload;
+    private List<Long> removedDuringReload;
+
+    @Autowired
+    public UpcomingEventIndex(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    public void put(Event event) {
+        synchronized (writeLock) {
+            index.put(event);
+            if (changedDuringReload != null) {
+                changedDuringReload.add(event);
+            }
+        }
+    }
+
+    public void remove(long eventId) {
+        synchronized (writeLock) {
+            index.remove(eventId);
+            if (removedDuringReload != null) {
+                removedDuringReload.add(eventId);
+            }
+        }
+    }
+
+    // Events starting after now and inside [from, to], in start order
+    public Iterator<Event> window(LocalDateTime from, LocalDateTime to, Integer clubId) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start = from == null || from.isBefore(now) ? now : from;
+        NavigableMap<Key, Event> window = index.byTime.tailMap(new Key(start, Long.MAX_VALUE), false);
+        if (to != null) {
+            window = window.headMap(new Key(to, Long.MAX_VALUE), true);
+        }
+        Iterator<Event> events = window.values().iterator();
+        if (clubId == null) {
+            return events;
+        }
+        return new Iterator<>() {
+            private Event next = advance();
+
+            private Event advance() {
+                while (events.hasNext()) {
+                    Event event = events.next();
+                    if (event.get_ClubId() == clubId) {
+                        return event;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Event next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                Event event = next;
+                next = advance();
+                return event;
+            }
+        };
+    }
+
+    // Drops events that have started; reads already skip them, this just bounds memory
+    @Scheduled(fixedDelayString = "${event.service.upcoming.evict-interval:60000}")
+    public void evictPast() {
+        synchronized (writeLock) {
+            index.evictBefore(LocalDateTime.now());
+        }
+    }
+
+    // Picks up rows written around this service, e.g. by a script against the table
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${event.service.upcoming.reload-interval:3600000}",
+               initialDelayString = "${event.service.upcoming.reload-interval:3600000}")
+    public void reload() {
+        synchronized (writeLock) {
+            changedDuringReload = new ArrayList<>();
+            removedDuringReload = new ArrayList<>();
+        }
+        List<Event> loaded;
+        try {
+            loaded = eventRepository.findUpcoming();
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                changedDuringReload = null;
+                removedDuringReload = null;
+            }
+            log.warn("Reloading upcoming events failed, keeping the current index: {}", e.toString());
+            return;
+        }
+        synchronized (writeLock) {
+            Index fresh = new Index();
+            loaded.forEach(fresh::put);
+            changedDuringReload.forEach(fresh::put);
+            removedDuringReload.forEach(fresh::remove);
+            changedDuringReload = null;
+            removedDuringReload = null;
+            index = fresh;
+        }
+        log.info("Upcoming event index loaded with {} events", loaded.size());
+    }
+
+    private static final class Index {
+        final ConcurrentSkipListMap<Key, Event> byTime = new ConcurrentSkipListMap<>(ORDER);
+        final ConcurrentHashMap<Long, Key> keysById = new ConcurrentHashMap<>();
+
+        void put(Event event) {
+            remove(event.get_Id());
+            if (event.get_DateTime() == null || !event.get_DateTime().isAfter(LocalDateTime.now())) {
+                return;
+            }
+            Key key = new Key(event.get_DateTime(), event.get_Id());
+            byTime.put(key, event);
+            keysById.put(event.get_Id(), key);
+        }
+
+        void remove(long eventId) {
+            Key key = keysById.remove(eventId);
+            if (key != null) {
+                byTime.remove(key);
+            }
+        }
+
+        void evictBefore(LocalDateTime now) {
+            NavigableMap<Key, Event> past = byTime.headMap(new Key(now, Long.MAX_VALUE), true);
+            past.values().forEach(event -> keysById.remove(event.get_Id()));
+            past.clear();
+        }
+    }
+
+    private static final class Key {
+        final LocalDateTime dateTime;
+        final long id;
+
+        Key(LocalDateTime dateTime, long id) {
+            this.dateTime = dateTime;
+            this.id = id;
+        }
+    }
+}
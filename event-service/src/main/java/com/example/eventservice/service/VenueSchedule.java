@@ -0,0 +1,178 @@
+package com.example.eventservice.service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.example.eventservice.model.Event;
+import com.example.eventservice.repository.EventRepository;
+
+/**
+ * Bookings per location, each venue an interval tree of [start, start + duration) so a conflict
+ * check costs O(log n + k) instead of a range scan. Locations match case-insensitively; events
+ * without a location or start time are not tracked. Bookings are serialized under one lock so
+ * a conflict check and the write that follows it cannot interleave with another booking.
+ */
+@Component
+public class VenueSchedule {
+
+    private static final Logger log = LoggerFactory.getLogger(VenueSchedule.class);
+
+    private final EventRepository eventRepository;
+    private final Object writeLock = new Object();
+    private final Map<String, IntervalTree> venues = new HashMap<>();
+    // Where each tracked event sits, needed to find its node when it moves or is deleted
+    private final Map<Long, Booking> bookings = new HashMap<>();
+    // Events written while the initial load is querying the table; the load must not overwrite them
+    private Set<Long> touchedDuringLoad;
+
+    @Value("${event.service.venues.default-duration-minutes:60}")
+    private int defaultDurationMinutes;
+
+    @Value("${event.service.venues.max-duration-minutes:1440}")
+    private int maxDurationMinutes;
+
+    @Autowired
+    public VenueSchedule(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (writeLock) {
+            touchedDuringLoad = new HashSet<>();
+        }
+        List<Event> all;
+        try {
+            all = eventRepository.findAll();
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                touchedDuringLoad = null;
+            }
+            throw e;
+        }
+        synchronized (writeLock) {
+            for (Event event : all) {
+                if (!touchedDuringLoad.contains(event.get_Id())) {
+                    track(event);
+                }
+            }
+            touchedDuringLoad = null;
+        }
+        log.info("Venue schedule loaded with {} bookings across {} locations", bookings.size(), venues.size());
+    }
+
+    // Runs a conflict check and the write it guards as one step with respect to other bookings
+    public <T> T whileBooking(Supplier<T> action) {
+        synchronized (writeLock) {
+            return action.get();
+        }
+    }
+
+    // Tracked events overlapping the given event's slot at its location, other than the event itself
+    public List<Event> conflicts(Event event) {
+        if (venueKey(event.get_Location()) == null || event.get_DateTime() == null) {
+            return Collections.emptyList();
+        }
+        return bookings(event.get_Location(), event.get_DateTime(), endOf(event)).stream()
+                .filter(booked -> booked.get_Id() != event.get_Id())
+                .collect(Collectors.toList());
+    }
+
+    // Tracked events at the location overlapping [from, to), in start order
+    public List<Event> bookings(String location, LocalDateTime from, LocalDateTime to) {
+        String key = venueKey(location);
+        synchronized (writeLock) {
+            IntervalTree tree = key != null ? venues.get(key) : null;
+            return tree != null ? tree.overlapping(from, to) : Collections.emptyList();
+        }
+    }
+
+    public void put(Event event) {
+        synchronized (writeLock) {
+            untrack(event.get_Id());
+            track(event);
+            if (touchedDuringLoad != null) {
+                touchedDuringLoad.add(event.get_Id());
+            }
+        }
+    }
+
+    public void remove(long eventId) {
+        synchronized (writeLock) {
+            untrack(eventId);
+            if (touchedDuringLoad != null) {
+                touchedDuringLoad.add(eventId);
+            }
+        }
+    }
+
+    // A missing duration becomes the configured default; anything outside the bounds is rejected
+    public int duration(int requestedMinutes) {
+        int minutes = requestedMinutes == 0 ? defaultDurationMinutes : requestedMinutes;
+        if (minutes < 1 || minutes > maxDurationMinutes) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Duration must be between 1 and " + maxDurationMinutes + " minutes");
+        }
+        return minutes;
+    }
+
+    static LocalDateTime endOf(Event event) {
+        return event.get_DateTime().plusMinutes(Math.max(event.get_DurationMinutes(), 1));
+    }
+
+    static String venueKey(String location) {
+        if (location == null || location.isBlank()) {
+            return null;
+        }
+        return location.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private void track(Event event) {
+        String key = venueKey(event.get_Location());
+        if (key == null || event.get_DateTime() == null) {
+            return;
+        }
+        venues.computeIfAbsent(key, k -> new IntervalTree()).insert(event, event.get_DateTime(), endOf(event));
+        bookings.put(event.get_Id(), new Booking(key, event.get_DateTime()));
+    }
+
+    private void untrack(long eventId) {
+        Booking booking = bookings.remove(eventId);
+        if (booking == null) {
+            return;
+        }
+        IntervalTree tree = venues.get(booking.venue);
+        tree.remove(eventId, booking.start);
+        if (tree.size() == 0) {
+            venues.remove(booking.venue);
+        }
+    }
+
+    private static final class Booking {
+        final String venue;
+        final LocalDateTime start;
+
+        Booking(String venue, LocalDateTime start) {
+            this.venue = venue;
+            this.start = start;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.eventservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class CalendarFeedsTest {
+
+    @Test
+    void leavesAShortLineAlone() throws IOException {
+        String content = "SUMMARY:" + "x".repeat(67);
+
+        assertEquals(content + "\r\n", fold(content));
+    }
+
+    @Test
+    void foldsAsciiAt75Octets() throws IOException {
+        String content = "DESCRIPTION:" + "x".repeat(200);
+
+        String folded = fold(content);
+
+        String[] lines = physicalLines(folded);
+        assertEquals(75, octets(lines[0]));
+        assertEquals(75, octets(lines[1]));
+        assertTrue(lines[1].startsWith(" "));
+        assertEquals(content, unfold(folded));
+    }
+
+    @Test
+    void neverSplitsAMultiByteCharacter() throws IOException {
+        for (String text : new String[] { "é", "日本", "🎉", "a🎉é" }) {
+            String content = "SUMMARY:" + text.repeat(120);
+
+            String folded = fold(content);
+
+            for (String line : physicalLines(folded)) {
+                assertTrue(octets(line) <= 75, line);
+                // A split sequence would not survive a UTF-8 round trip
+                assertEquals(line, new String(line.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+                assertTrue(line.isEmpty() || !Character.isLowSurrogate(line.charAt(line.startsWith(" ") ? 1 : 0)), line);
+            }
+            assertEquals(content, unfold(folded));
+        }
+    }
+
+    private static String fold(String content) throws IOException {
+        StringWriter writer = new StringWriter();
+        CalendarFeeds.line(writer, content);
+        return writer.toString();
+    }
+
+    private static String[] physicalLines(String folded) {
+        assertTrue(folded.endsWith("\r\n"));
+        return folded.substring(0, folded.length() - 2).split("\r\n", -1);
+    }
+
+    private static String unfold(String folded) {
+        return folded.substring(0, folded.length() - 2).replace("\r\n ", "");
+    }
+
+    private static int octets(String line) {
+        return line.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
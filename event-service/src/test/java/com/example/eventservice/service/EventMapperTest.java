@@ -0,0 +1,121 @@
+package com.example.eventservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import com.example.eventservice.dto.EventDTO;
+import com.example.eventservice.dto.EventSeriesDTO;
+import com.example.eventservice.model.Event;
+import com.example.eventservice.model.EventSeries;
+
+// EventMapper must copy exactly what ModelMapper used to copy, including capacity, duration and series fields
+class EventMapperTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 5, 4, 18, 0);
+
+    private final EventMapper mapper = new EventMapper();
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    @Test
+    void eventToDtoMatchesModelMapper() {
+        Event event = new Event(40, "Spring Gala", "Annual dinner", "Main Hall", START, 3, 120);
+        event.set_DurationMinutes(150);
+        event.set_SeriesId(9);
+        event.set_SeriesOccurrence(START);
+
+        assertSameFields(modelMapper.map(event, EventDTO.class), mapper.toDto(event));
+    }
+
+    @Test
+    void eventToEntityMatchesModelMapper() {
+        EventDTO dto = new EventDTO(40, "Spring Gala", "Annual dinner", "Main Hall", START, 3, 120);
+        dto.set_DurationMinutes(150);
+        dto.set_SeriesId(9);
+        dto.set_SeriesOccurrence(START);
+
+        Event expected = modelMapper.map(dto, Event.class);
+        Event actual = mapper.toEntity(dto);
+
+        assertEquals(expected.get_Id(), actual.get_Id());
+        assertEquals(expected.get_Name(), actual.get_Name());
+        assertEquals(expected.get_Description(), actual.get_Description());
+        assertEquals(expected.get_Location(), actual.get_Location());
+        assertEquals(expected.get_DateTime(), actual.get_DateTime());
+        assertEquals(expected.get_ClubId(), actual.get_ClubId());
+        assertEquals(expected.get_Capacity(), actual.get_Capacity());
+        assertEquals(expected.get_DurationMinutes(), actual.get_DurationMinutes());
+        assertEquals(expected.get_SeriesId(), actual.get_SeriesId());
+        assertEquals(expected.get_SeriesOccurrence(), actual.get_SeriesOccurrence());
+    }
+
+    @Test
+    void standaloneEventKeepsEmptySeriesFields() {
+        Event event = new Event(41, "Open Mic", null, null, START, 3, 0);
+
+        assertSameFields(modelMapper.map(event, EventDTO.class), mapper.toDto(event));
+    }
+
+    @Test
+    void seriesToDtoMatchesModelMapper() {
+        EventSeries series = new EventSeries(9, "Thursday Practice", "Bring shoes", "Court 2", START, "FREQ=WEEKLY;BYDAY=TH", 3, 24);
+        series.set_DurationMinutes(90);
+
+        EventSeriesDTO expected = modelMapper.map(series, EventSeriesDTO.class);
+        EventSeriesDTO actual = mapper.toDto(series);
+
+        assertEquals(expected.get_Id(), actual.get_Id());
+        assertEquals(expected.get_Name(), actual.get_Name());
+        assertEquals(expected.get_Description(), actual.get_Description());
+        assertEquals(expected.get_Location(), actual.get_Location());
+        assertEquals(expected.get_StartDateTime(), actual.get_StartDateTime());
+        assertEquals(expected.get_Rule(), actual.get_Rule());
+        assertEquals(expected.get_ClubId(), actual.get_ClubId());
+        assertEquals(expected.get_Capacity(), actual.get_Capacity());
+        assertEquals(expected.get_DurationMinutes(), actual.get_DurationMinutes());
+    }
+
+    @Test
+    void seriesToEntityMatchesModelMapper() {
+        EventSeriesDTO dto = new EventSeriesDTO(9, "Thursday Practice", "Bring shoes", "Court 2", START, "FREQ=WEEKLY;BYDAY=TH", 3, 24);
+        dto.set_DurationMinutes(90);
+
+        EventSeries expected = modelMapper.map(dto, EventSeries.class);
+        EventSeries actual = mapper.toEntity(dto);
+
+        assertEquals(expected.get_Id(), actual.get_Id());
+        assertEquals(expected.get_Name(), actual.get_Name());
+        assertEquals(expected.get_Description(), actual.get_Description());
+        assertEquals(expected.get_Location(), actual.get_Location());
+        assertEquals(expected.get_StartDateTime(), actual.get_StartDateTime());
+        assertEquals(expected.get_Rule(), actual.get_Rule());
+        assertEquals(expected.get_ClubId(), actual.get_ClubId());
+        assertEquals(expected.get_Capacity(), actual.get_Capacity());
+        assertEquals(expected.get_DurationMinutes(), actual.get_DurationMinutes());
+    }
+
+    @Test
+    void nullMapsToNull() {
+        assertNull(mapper.toDto((Event) null));
+        assertNull(mapper.toEntity((EventDTO) null));
+        assertNull(mapper.toDto((EventSeries) null));
+        assertNull(mapper.toEntity((EventSeriesDTO) null));
+    }
+
+    private static void assertSameFields(EventDTO expected, EventDTO actual) {
+        assertEquals(expected.get_Id(), actual.get_Id());
+        assertEquals(expected.get_Name(), actual.get_Name());
+        assertEquals(expected.get_Description(), actual.get_Description());
+        assertEquals(expected.get_Location(), actual.get_Location());
+        assertEquals(expected.get_DateTime(), actual.get_DateTime());
+        assertEquals(expected.get_ClubId(), actual.get_ClubId());
+        assertEquals(expected.get_Capacity(), actual.get_Capacity());
+        assertEquals(expected.get_DurationMinutes(), actual.get_DurationMinutes());
+        assertEquals(expected.get_SeriesId(), actual.get_SeriesId());
+        assertEquals(expected.get_SeriesOccurrence(), actual.get_SeriesOccurrence());
+    }
+}
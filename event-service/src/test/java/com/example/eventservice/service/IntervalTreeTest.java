@@ -0,0 +1,106 @@
+package com.example.eventservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.eventservice.model.Event;
+
+class IntervalTreeTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 6, 1, 0, 0);
+
+    @Test
+    void touchingIntervalsDoNotOverlap() {
+        IntervalTree tree = new IntervalTree();
+        insert(tree, 1, 60, 120);
+
+        assertTrue(tree.overlapping(at(0), at(60)).isEmpty());
+        assertTrue(tree.overlapping(at(120), at(180)).isEmpty());
+        assertEquals(List.of(1L), ids(tree.overlapping(at(119), at(180))));
+        assertEquals(List.of(1L), ids(tree.overlapping(at(30), at(61))));
+    }
+
+    @Test
+    void findsEnclosingAndEnclosedIntervalsInStartOrder() {
+        IntervalTree tree = new IntervalTree();
+        insert(tree, 3, 90, 100);
+        insert(tree, 1, 0, 600);
+        insert(tree, 2, 60, 70);
+
+        assertEquals(List.of(1L, 2L, 3L), ids(tree.overlapping(at(50), at(95))));
+        assertEquals(List.of(1L), ids(tree.overlapping(at(200), at(210))));
+    }
+
+    @Test
+    void keepsEventsWithTheSameStartApart() {
+        IntervalTree tree = new IntervalTree();
+        insert(tree, 2, 60, 120);
+        insert(tree, 1, 60, 90);
+
+        tree.remove(2, at(60));
+
+        assertEquals(1, tree.size());
+        assertEquals(List.of(1L), ids(tree.overlapping(at(0), at(600))));
+    }
+
+    @Test
+    void removingAnUnknownEventFails() {
+        IntervalTree tree = new IntervalTree();
+        insert(tree, 1, 60, 120);
+
+        assertThrows(IllegalStateException.class, () -> tree.remove(1, at(0)));
+        assertThrows(IllegalStateException.class, () -> tree.remove(2, at(60)));
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    void matchesABruteForceScanThroughInsertsAndRemoves() {
+        IntervalTree tree = new IntervalTree();
+        List<long[]> live = new ArrayList<>();
+        Random random = new Random(11);
+        for (long id = 1; id <= 3_000; id++) {
+            long start = random.nextInt(10_000);
+            long end = start + 1 + random.nextInt(300);
+            insert(tree, id, start, end);
+            live.add(new long[] { id, start, end });
+            if (random.nextInt(3) == 0) {
+                long[] removed = live.remove(random.nextInt(live.size()));
+                tree.remove(removed[0], at(removed[1]));
+            }
+            if (id % 50 == 0) {
+                long from = random.nextInt(10_000);
+                long to = from + 1 + random.nextInt(500);
+                List<Long> expected = live.stream()
+                        .filter(interval -> interval[1] < to && interval[2] > from)
+                        .sorted(Comparator.<long[]>comparingLong(interval -> interval[1]).thenComparingLong(interval -> interval[0]))
+                        .map(interval -> interval[0])
+                        .collect(Collectors.toList());
+                assertEquals(expected, ids(tree.overlapping(at(from), at(to))));
+            }
+        }
+        assertEquals(live.size(), tree.size());
+    }
+
+    private static void insert(IntervalTree tree, long id, long startMinute, long endMinute) {
+        Event event = new Event(id, "Event " + id, null, "Main Hall", at(startMinute), 1, 0);
+        tree.insert(event, at(startMinute), at(endMinute));
+    }
+
+    private static LocalDateTime at(long minute) {
+        return BASE.plusMinutes(minute);
+    }
+
+    private static List<Long> ids(List<Event> events) {
+        return events.stream().map(Event::get_Id).collect(Collectors.toList());
+    }
+}
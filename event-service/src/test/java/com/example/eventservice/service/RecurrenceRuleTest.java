@@ -0,0 +1,113 @@
+package com.example.eventservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class RecurrenceRuleTest {
+
+    // A Tuesday
+    private static final LocalDateTime START = LocalDateTime.of(2026, 6, 2, 18, 0);
+
+    @Test
+    void expandsWeeklyByDayWithCount() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=TU,TH;COUNT=4");
+
+        assertEquals(List.of(day(2), day(4), day(9), day(11)), all(rule.occurrences(START, START)));
+    }
+
+    @Test
+    void skipsByDayDatesBeforeTheSeriesStart() {
+        LocalDateTime thursday = day(4);
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,TH");
+
+        assertEquals(List.of(day(4), day(8), day(11)), take(rule.occurrences(thursday, thursday), 3));
+    }
+
+    @Test
+    void honoursTheInterval() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2");
+
+        assertEquals(List.of(day(2), day(16), day(30)), take(rule.occurrences(START, START), 3));
+    }
+
+    @Test
+    void treatsADateOnlyUntilAsInclusive() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;UNTIL=20260605");
+
+        assertEquals(List.of(day(2), day(3), day(4), day(5)), all(rule.occurrences(START, START)));
+        assertTrue(rule.isFinite());
+    }
+
+    @Test
+    void skipsMonthsWithoutTheStartDay() {
+        LocalDateTime start = LocalDateTime.of(2026, 1, 31, 19, 0);
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;COUNT=3");
+
+        assertEquals(List.of(start, start.withMonth(3), start.withMonth(5)), all(rule.occurrences(start, start)));
+    }
+
+    @Test
+    void countsFromTheSeriesStartNotTheWindow() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;COUNT=5");
+
+        assertEquals(List.of(day(5), day(6)), all(rule.occurrences(START, day(5).minusHours(1))));
+    }
+
+    @Test
+    void skippingAheadMatchesIteratingFromTheStart() {
+        for (String text : List.of("FREQ=DAILY;INTERVAL=3", "FREQ=WEEKLY;BYDAY=MO,WE,SA", "FREQ=MONTHLY;INTERVAL=2")) {
+            RecurrenceRule rule = RecurrenceRule.parse(text);
+            LocalDateTime from = START.plusDays(400).withHour(12);
+            List<LocalDateTime> expected = new ArrayList<>();
+            Iterator<LocalDateTime> fromStart = rule.occurrences(START, START);
+            while (expected.size() < 5) {
+                LocalDateTime occurrence = fromStart.next();
+                if (!occurrence.isBefore(from)) {
+                    expected.add(occurrence);
+                }
+            }
+            assertEquals(expected, take(rule.occurrences(START, from), 5), text);
+        }
+    }
+
+    @Test
+    void acceptsAPrefixAndLowerCase() {
+        RecurrenceRule rule = RecurrenceRule.parse("RRULE:freq=weekly;byday=tu;count=2");
+
+        assertEquals(List.of(day(2), day(9)), all(rule.occurrences(START, START)));
+        assertFalse(RecurrenceRule.parse("FREQ=DAILY").isFinite());
+    }
+
+    @Test
+    void rejectsRulesOutsideTheSupportedSubset() {
+        for (String text : List.of("", "INTERVAL=2", "FREQ=YEARLY", "FREQ=DAILY;BYDAY=MO", "FREQ=WEEKLY;BYDAY=XX",
+                "FREQ=DAILY;INTERVAL=0", "FREQ=DAILY;COUNT=abc", "FREQ=DAILY;BYMONTH=1", "FREQ")) {
+            assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse(text), text);
+        }
+    }
+
+    private static LocalDateTime day(int dayOfJune) {
+        return START.withDayOfMonth(dayOfJune);
+    }
+
+    private static List<LocalDateTime> all(Iterator<LocalDateTime> occurrences) {
+        return take(occurrences, Integer.MAX_VALUE);
+    }
+
+    private static List<LocalDateTime> take(Iterator<LocalDateTime> occurrences, int limit) {
+        List<LocalDateTime> taken = new ArrayList<>();
+        while (taken.size() < limit && occurrences.hasNext()) {
+            taken.add(occurrences.next());
+        }
+        return taken;
+    }
+}
@@ -1,17 +1,25 @@
 package com.example.memberservice.controller;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 import com.example.memberservice.dto.MemberDTO;
 import com.example.memberservice.service.MemberService;
@@ -41,6 +49,17 @@ public class MemberController {
         return memberService.getMemberById(id).orElse(null);
     }
 
+    @PostMapping("/members/batch")
+    public List<MemberDTO> getMembersByIds(@RequestBody List<Long> ids) {
+        return memberService.getMembersByIds(ids);
+    }
+
+    @GetMapping("/members/typeahead")
+    public List<MemberDTO> suggestMembers(@RequestParam String q,
+                                          @RequestParam(defaultValue = "${member.service.typeahead.default-limit:10}") int limit) {
+        return memberService.suggestMembers(q, limit);
+    }
+
     @GetMapping("/members/email/{email}")
     public MemberDTO getMemberByEmail(@PathVariable String email) {
         return memberService.getMemberByEmail(email).orElse(null);
@@ -51,6 +70,16 @@ public class MemberController {
         return memberService.getMembersByClub(clubName);
     }
 
+    @GetMapping("/members/club/id/{clubId}")
+    public List<MemberDTO> getMembersByClubId(@PathVariable int clubId, @RequestParam(required = false) Integer limit) {
+        return limit != null ? memberService.getMembersByClubId(clubId, limit) : memberService.getMembersByClubId(clubId);
+    }
+
+    @GetMapping("/members/club/id/{clubId}/statistics")
+    public Map<String, Object> getClubStatistics(@PathVariable int clubId) {
+        return memberService.getClubStatistics(clubId);
+    }
+
     @PostMapping("/members")
     public MemberDTO createMember(@RequestBody MemberDTO memberDTO) {
         return memberService.createMember(memberDTO);
@@ -58,6 +87,20 @@ public class MemberController {
 
 
 
+    // The raw text/csv body is parsed as it arrives; nothing buffers the whole file
+    @PostMapping(value = "/members/import", consumes = "text/csv")
+    public Map<String, Object> importMembers(InputStream csv) throws IOException {
+        return memberService.importMembers(new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8)));
+    }
+
+    // Browser uploads; the container spools large parts to disk, not memory
+    @PostMapping(value = "/members/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public Map<String, Object> importMembersFile(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream csv = file.getInputStream()) {
+            return importMembers(csv);
+        }
+    }
+
     @PutMapping("/members/{id}")
     public MemberDTO updateMember(@PathVariable long id, @RequestBody MemberDTO memberDTO) {
         return memberService.updateMember(id, memberDTO);
@@ -0,0 +1,31 @@
+package com.example.memberservice.model;
+
+public class OutboxEntry {
+    long _Id;
+    long _MemberId;
+    String _Name;
+
+    public OutboxEntry() {
+        // Default constructor
+    }
+
+    public OutboxEntry(long id, long memberId, String name) {
+        _Id = id;
+        _MemberId = memberId;
+        _Name = name;
+    }
+
+    // Setters and Getters
+    public long get_Id() { 
+        return _Id; }
+    public void set_Id(long id) { 
+        _Id = id; }
+    public long get_MemberId() { 
+        return _MemberId; }
+    public void set_MemberId(long memberId) { 
+        _MemberId = memberId; }
+    public String get_Name() { 
+        return _Name; }
+    public void set_Name(String name) { 
+        _Name = name; }
+}
@@ -1,16 +1,23 @@
 package com.example.memberservice.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import com.example.memberservice.model.Member;
 
 public interface MemberRepository {
     List<Member> findAll();
     Optional<Member> findById(long id);
+    List<Member> findByIds(Collection<Long> ids);
     Optional<Member> findByEmail(String email);
     List<Member> findByClubId(int clubId);
+    List<Member> findByClubId(int clubId, int limit);
+    int countByClubId(int clubId);
     Member save(Member member);
+    List<Member> saveAll(List<Member> members);
+    Set<String> findExistingEmails(Collection<String> emails);
     Member update(Member member);
     void deleteById(long id);
 }
\ No newline at end of file
@@ -1,13 +1,25 @@
 package com.example.memberservice.repository;
 
-
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.memberservice.model.Member;
 
@@ -37,6 +49,16 @@ public class MemberRepositoryImpl implements MemberRepository {
         }
     }
 
+    @Override
+    public List<Member> findByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        String sql = "SELECT * FROM members WHERE id IN (" + placeholders + ")";
+        return jdbcTemplate.query(sql, new MemberRowMapper(), ids.toArray());
+    }
+
     @Override
     public Optional<Member> findByEmail(String email) {
         String sql = "SELECT * FROM members WHERE email = ?";
@@ -53,13 +75,86 @@ public class MemberRepositoryImpl implements MemberRepository {
         return jdbcTemplate.query(sql, new MemberRowMapper(), clubId);
     }
 
+    @Override
+    public List<Member> findByClubId(int clubId, int limit) {
+        String sql = "SELECT * FROM members WHERE club_id = ? ORDER BY id LIMIT ?";
+        return jdbcTemplate.query(sql, new MemberRowMapper(), clubId, limit);
+    }
+
+    @Override
+    public int countByClubId(int clubId) {
+        String sql = "SELECT COUNT(*) FROM members WHERE club_id = ?";
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, clubId);
+        return count != null ? count : 0;
+    }
+
     @Override
     public Member save(Member member) {
         String sql = "INSERT INTO members (name, email, phone, club_id) VALUES (?, ?, ?, ?)";
-        jdbcTemplate.update(sql, member.get_Name(), member.get_Email(), member.get_Phone(), member.get_ClubId());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, member.get_Name());
+            ps.setString(2, member.get_Email());
+            ps.setString(3, member.get_Phone());
+            ps.setInt(4, member.get_ClubId());
+            return ps;
+        }, keyHolder);
+        Number key = keyHolder.getKey();
+        if (key != null) {
+            member.set_Id(key.longValue());
+        }
         return member;
     }
 
+    @Override
+    @Transactional
+    public List<Member> saveAll(List<Member> members) {
+        if (members.isEmpty()) {
+            return members;
+        }
+        // One batch for all rows, with the generated IDs read back in insert order
+        String sql = "INSERT INTO members (name, email, phone, club_id) VALUES (?, ?, ?, ?)";
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Member member = members.get(i);
+                        ps.setString(1, member.get_Name());
+                        ps.setString(2, member.get_Email());
+                        ps.setString(3, member.get_Phone());
+                        ps.setInt(4, member.get_ClubId());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return members.size();
+                    }
+                }, keyHolder);
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < keys.size() && i < members.size(); i++) {
+            Object key = keys.get(i).values().stream().findFirst().orElse(null);
+            if (key instanceof Number) {
+                members.get(i).set_Id(((Number) key).longValue());
+            }
+        }
+        return members;
+    }
+
+    // Which of the given emails already belong to a member, lower-cased
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Collections.emptySet();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(emails.size(), "?"));
+        String sql = "SELECT email FROM members WHERE email IN (" + placeholders + ")";
+        return jdbcTemplate.queryForList(sql, String.class, emails.toArray()).stream()
+                .map(email -> email.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+    }
+
     @Override
     public Member update(Member member) {
         String sql = "UPDATE members SET name = ?, email = ?, phone = ?, club_id = ? WHERE id = ?";
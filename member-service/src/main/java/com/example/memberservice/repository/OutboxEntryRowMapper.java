@@ -0,0 +1,19 @@
+package com.example.memberservice.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import com.example.memberservice.model.OutboxEntry;
+
+public class OutboxEntryRowMapper implements RowMapper<OutboxEntry> {
+    @Override
+    public OutboxEntry mapRow(ResultSet rs, int rowNum) throws SQLException {
+        OutboxEntry entry = new OutboxEntry();
+        entry.set_Id(rs.getLong("id"));
+        entry.set_MemberId(rs.getLong("member_id"));
+        entry.set_Name(rs.getString("name"));
+        return entry;
+    }
+}
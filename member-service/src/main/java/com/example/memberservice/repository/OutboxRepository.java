@@ -0,0 +1,11 @@
+package com.example.memberservice.repository;
+
+import java.util.List;
+
+import com.example.memberservice.model.OutboxEntry;
+
+public interface OutboxRepository {
+    void append(long memberId, String name);
+    List<OutboxEntry> findOldest(int limit);
+    void deleteByIds(List<Long> ids);
+}
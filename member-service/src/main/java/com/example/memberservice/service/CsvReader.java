@@ -0,0 +1,88 @@
+package com.example.memberservice.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 CSV one record at a time, so a file of any size is never held in memory.
+ * Fields may be quoted, quoted fields may contain commas, line breaks and doubled quotes,
+ * and records may end in LF or CRLF.
+ */
+final class CsvReader {
+
+    private final Reader reader;
+    private int peeked = -2;
+    private long line = 1;
+
+    CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // Physical line the next record starts on, for error reports
+    long line() {
+        return line;
+    }
+
+    // The next record's fields, or null at end of input
+    List<String> next() throws IOException {
+        if (peek() == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        while (true) {
+            int c = read();
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    if (peek() == '"') {
+                        read();
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+                continue;
+            }
+            if (c == '"' && field.length() == 0 && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c == '\r' && peek() == '\n') {
+                // The LF ends the record
+            } else if (c == '\n' || c == -1) {
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    private int peek() throws IOException {
+        if (peeked == -2) {
+            peeked = reader.read();
+        }
+        return peeked;
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        peeked = -2;
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.memberservice.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.example.memberservice.model.Member;
+import com.example.memberservice.repository.MemberRepository;
+
+/**
+ * Bulk member import from CSV with a name, email, phone and club_id header (phone and
+ * club_id optional, any order). Rows are parsed and validated as they stream in and written
+ * in chunks, one batch insert and transaction per chunk. An email already taken, in the table
+ * or earlier in the file, rejects only its own row.
+ */
+@Component
+public class MemberImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberImporter.class);
+
+    private final MemberRepository memberRepository;
+    private final MemberTypeahead typeahead;
+    private final Pattern emailPattern;
+    private final Pattern phonePattern;
+
+    @Value("${member.service.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${member.service.import.max-errors:1000}")
+    private int maxErrors;
+
+    @Value("${member.service.validation.name.min-length:2}")
+    private int minNameLength;
+
+    @Value("${member.service.validation.name.max-length:100}")
+    private int maxNameLength;
+
+    @Autowired
+    public MemberImporter(MemberRepository memberRepository, MemberTypeahead typeahead,
+                          @Value("${member.service.validation.email.pattern:^[A-Za-z0-9+_.-]+@(.+)$}") String emailPattern,
+                          @Value("${member.service.validation.phone.pattern:^[+]?[0-9\\s\\-\\(\\)]{10,15}$}") String phonePattern) {
+        this.memberRepository = memberRepository;
+        this.typeahead = typeahead;
+        this.emailPattern = Pattern.compile(emailPattern);
+        this.phonePattern = Pattern.compile(phonePattern);
+    }
+
+    public Map<String, Object> importCsv(Reader input) throws IOException {
+        long started = System.currentTimeMillis();
+        CsvReader csv = new CsvReader(input);
+        Map<String, Integer> columns = header(csv.next());
+
+        Report report = new Report();
+        // Lower-cased email -> row that first used it; rows are only ever compared by email
+        Map<String, Long> seen = new HashMap<>();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        try {
+            for (long row = 1; ; row++) {
+                long line = csv.line();
+                List<String> fields = csv.next();
+                if (fields == null) {
+                    break;
+                }
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    row--;
+                    continue;
+                }
+                report.rowsRead++;
+                Member member = toMember(fields, columns);
+                String error = validate(member);
+                if (error == null) {
+                    Long firstRow = seen.putIfAbsent(member.get_Email().toLowerCase(Locale.ROOT), row);
+                    if (firstRow != null) {
+                        error = "Duplicate email in file, first used on row " + firstRow;
+                    }
+                }
+                if (error != null) {
+                    report.reject(row, line, member.get_Email(), error, maxErrors);
+                    continue;
+                }
+                chunk.add(new Row(row, line, member));
+                if (chunk.size() == chunkSize) {
+                    write(chunk, report);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            // Chunks written so far stay committed; the report says where parsing stopped
+            report.aborted = "Unreadable CSV at line " + csv.line() + ": " + e.getMessage();
+        }
+        write(chunk, report);
+        return report.toMap(System.currentTimeMillis() - started);
+    }
+
+    private static Map<String, Integer> header(List<String> names) {
+        if (names == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The CSV file is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            // A byte order mark from spreadsheet exports would otherwise stick to the first name
+            String name = names.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns.putIfAbsent(name, i);
+        }
+        if (!columns.containsKey("name") || !columns.containsKey("email")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "The header must name at least the name and email columns, optionally phone and club_id");
+        }
+        return columns;
+    }
+
+    private static Member toMember(List<String> fields, Map<String, Integer> columns) {
+        Member member = new Member();
+        member.set_Name(field(fields, columns, "name"));
+        member.set_Email(field(fields, columns, "email"));
+        member.set_Phone(field(fields, columns, "phone"));
+        String clubId = field(fields, columns, "club_id");
+        // An unparsable club_id is caught by validate
+        member.set_ClubId(clubId == null ? 0 : clubId.matches("\\d{1,9}") ? Integer.parseInt(clubId) : -1);
+        return member;
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private String validate(Member member) {
+        if (member.get_Name() == null || member.get_Name().length() < minNameLength || member.get_Name().length() > maxNameLength) {
+            return "Name must be between " + minNameLength + " and " + maxNameLength + " characters";
+        }
+        if (member.get_Email() == null || !emailPattern.matcher(member.get_Email()).matches()) {
+            return "Invalid email";
+        }
+        if (member.get_Phone() != null && !phonePattern.matcher(member.get_Phone()).matches()) {
+            return "Invalid phone number";
+        }
+        if (member.get_ClubId() < 0) {
+            return "club_id must be a non-negative integer";
+        }
+        return null;
+    }
+
+    // Drops rows whose email is already taken, then inserts the rest as one batch
+    private void write(List<Row> chunk, Report report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Set<String> existing = memberRepository.findExistingEmails(chunk.stream()
+                .map(row -> row.member.get_Email())
+                .collect(Collectors.toList()));
+        List<Row> fresh = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            if (existing.contains(row.member.get_Email().toLowerCase(Locale.ROOT))) {
+                report.conflict(row, maxErrors);
+            } else {
+                fresh.add(row);
+            }
+        }
+        List<Member> members = fresh.stream().map(row -> row.member).collect(Collectors.toList());
+        try {
+            memberRepository.saveAll(members);
+            members.forEach(typeahead::put);
+            report.imported += members.size();
+        } catch (DuplicateKeyException e) {
+            // Someone else took one of these emails since the check; find out which row by row
+            for (Row row : fresh) {
+                try {
+                    typeahead.put(memberRepository.save(row.member));
+                    report.imported++;
+                } catch (DuplicateKeyException rowConflict) {
+                    report.conflict(row, maxErrors);
+                }
+            }
+        }
+        report.chunks++;
+        log.info("Member import progress: {} rows read, {} imported, {} rejected",
+                report.rowsRead, report.imported, report.rejected + report.conflicts);
+    }
+
+    private static final class Row {
+        final long number;
+        final long line;
+        final Member member;
+
+        Row(long number, long line, Member member) {
+            this.number = number;
+            this.line = line;
+            this.member = member;
+        }
+    }
+
+    private static final class Report {
+        long rowsRead;
+        long imported;
+        long rejected;
+        long conflicts;
+        long chunks;
+        String aborted;
+        final List<Map<String, Object>> errors = new ArrayList<>();
+
+        void reject(long row, long line, String email, String error, int maxErrors) {
+            rejected++;
+            addError(row, line, email, error, maxErrors);
+        }
+
+        void conflict(Row row, int maxErrors) {
+            conflicts++;
+            addError(row.number, row.line, row.member.get_Email(), "Email already registered", maxErrors);
+        }
+
+        private void addError(long row, long line, String email, String error, int maxErrors) {
+            if (errors.size() >= maxErrors) {
+                return;
+            }
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("row", row);
+            entry.put("line", line);
+            entry.put("email", email);
+            entry.put("error", error);
+            errors.add(entry);
+        }
+
+        Map<String, Object> toMap(long elapsedMs) {
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("status", aborted != null ? "aborted" : "completed");
+            if (aborted != null) {
+                report.put("reason", aborted);
+            }
+            report.put("rowsRead", rowsRead);
+            report.put("imported", imported);
+            report.put("rejected", rejected);
+            report.put("conflicts", conflicts);
+            report.put("chunks", chunks);
+            report.put("elapsedMs", elapsedMs);
+            report.put("errors", errors);
+            report.put("errorsTruncated", rejected + conflicts > errors.size());
+            return report;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.memberservice.service;
+
+import org.springframework.stereotype.Component;
+
+import com.example.memberservice.dto.MemberDTO;
+import com.example.memberservice.model.Member;
+
+// Field-by-field copies between Member and MemberDTO
+@Component
+public class MemberMapper {
+
+    public MemberDTO toDto(Member member) {
+        if (member == null) {
+            return null;
+        }
+        return new MemberDTO(member.get_Id(), member.get_Name(), member.get_Email(), member.get_Phone(), member.get_ClubId());
+    }
+
+    public Member toEntity(MemberDTO dto) {
+        if (dto == null) {
+            return null;
+        }
+        return new Member(dto.get_Id(), dto.get_Name(), dto.get_Email(), dto.get_Phone(), dto.get_ClubId());
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.memberservice.service;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -9,10 +11,16 @@ import com.example.memberservice.dto.MemberDTO;
 public interface MemberService {
     List<MemberDTO> getAllMembers();
     Optional<MemberDTO> getMemberById(long id);
+    List<MemberDTO> getMembersByIds(List<Long> ids);
     Optional<MemberDTO> getMemberByEmail(String email);
+    List<MemberDTO> suggestMembers(String query, int limit);
     List<MemberDTO> getMembersByClub(String clubName);
+    List<MemberDTO> getMembersByClubId(int clubId);
+    List<MemberDTO> getMembersByClubId(int clubId, int limit);
     MemberDTO createMember(MemberDTO memberDTO);
+    Map<String, Object> importMembers(Reader csv) throws IOException;
     MemberDTO updateMember(long id, MemberDTO memberDTO);
     void deleteMember(long id);
     Map<String, Object> getMemberStatistics(long id);
+    Map<String, Object> getClubStatistics(int clubId);
 }
\ No newline at end of file
@@ -1,43 +1,60 @@
 package com.example.memberservice.service;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.example.memberservice.dto.MemberDTO;
 import com.example.memberservice.model.Member;
 import com.example.memberservice.repository.MemberRepository;
+import com.example.memberservice.repository.OutboxRepository;
 
 @Service
 public class MemberServiceImpl implements MemberService {
 
     private final MemberRepository memberRepository;
-    private final ModelMapper modelMapper;
+    private final OutboxRepository outboxRepository;
+    private final MemberMapper memberMapper;
     private final RestClient restClient;
+    private final MemberTypeahead typeahead;
+    private final MemberImporter memberImporter;
     private final String clubServiceUrl = "http://localhost:8081";
     private final String registrationServiceUrl = "http://localhost:8084";
 
     @Autowired
-    public MemberServiceImpl(MemberRepository memberRepository, ModelMapper modelMapper, RestClient restClient) {
+    public MemberServiceImpl(MemberRepository memberRepository, OutboxRepository outboxRepository, MemberMapper memberMapper,
+                             RestClient restClient, MemberTypeahead typeahead, MemberImporter memberImporter) {
         this.memberRepository = memberRepository;
-        this.modelMapper = modelMapper;
+        this.outboxRepository = outboxRepository;
+        this.memberMapper = memberMapper;
         this.restClient = restClient;
+        this.typeahead = typeahead;
+        this.memberImporter = memberImporter;
     }
 
+    @Value("${member.service.typeahead.max-limit:50}")
+    private int maxTypeaheadLimit;
+
     private MemberDTO toDto(Member member) {
-        return modelMapper.map(member, MemberDTO.class);
+        return memberMapper.toDto(member);
     }
 
     private Member toEntity(MemberDTO dto) {
-        return modelMapper.map(dto, Member.class);
+        return memberMapper.toEntity(dto);
     }
 
     @Override
@@ -50,6 +67,11 @@ public class MemberServiceImpl implements MemberService {
         return memberRepository.findById(id).map(this::toDto);
     }
 
+    @Override
+    public List<MemberDTO> getMembersByIds(List<Long> ids) {
+        return memberRepository.findByIds(ids).stream().map(this::toDto).collect(Collectors.toList());
+    }
+
     @Override
     public Optional<MemberDTO> getMemberByEmail(String email) {
         return memberRepository.findByEmail(email).map(this::toDto);
@@ -73,21 +95,49 @@ public class MemberServiceImpl implements MemberService {
         return Collections.emptyList();
     }
 
+    // Matched from memory; only the matching members are read, by primary key
+    @Override
+    public List<MemberDTO> suggestMembers(String query, int limit) {
+        if (query == null || query.isBlank() || limit < 1 || limit > maxTypeaheadLimit) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "A non-empty query and a limit between 1 and " + maxTypeaheadLimit + " are required");
+        }
+        return typeahead.suggest(query, limit).stream().map(this::toDto).collect(Collectors.toList());
+    }
+
     @Override
     public MemberDTO createMember(MemberDTO memberDTO) {
-        return toDto(memberRepository.save(toEntity(memberDTO)));
+        Member saved = memberRepository.save(toEntity(memberDTO));
+        typeahead.put(saved);
+        return toDto(saved);
+    }
+
+    @Override
+    public Map<String, Object> importMembers(Reader csv) throws IOException {
+        return memberImporter.importCsv(csv);
     }
 
     @Override
+    @Transactional
     public MemberDTO updateMember(long id, MemberDTO memberDTO) {
         Member member = toEntity(memberDTO);
         member.set_Id(id);
-        return toDto(memberRepository.update(member));
+        Optional<Member> before = memberRepository.findById(id);
+        Member updated = memberRepository.update(member);
+        // Registrations keep a copy of the name; the change is queued atomically with the update
+        if (before.isPresent() && !Objects.equals(before.get().get_Name(), member.get_Name())) {
+            outboxRepository.append(id, member.get_Name());
+        }
+        if (before.isPresent()) {
+            typeahead.put(updated);
+        }
+        return toDto(updated);
     }
 
     @Override
     public void deleteMember(long id) {
         memberRepository.deleteById(id);
+        typeahead.remove(id);
     }
 
     @Override
@@ -115,4 +165,25 @@ public class MemberServiceImpl implements MemberService {
         
         return stats;
     }
+
+    @Override
+    public List<MemberDTO> getMembersByClubId(int clubId) {
+        return memberRepository.findByClubId(clubId).stream().map(this::toDto).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<MemberDTO> getMembersByClubId(int clubId, int limit) {
+        if (limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The limit must be at least 1");
+        }
+        return memberRepository.findByClubId(clubId, limit).stream().map(this::toDto).collect(Collectors.toList());
+    }
+
+    @Override
+    public Map<String, Object> getClubStatistics(int clubId) {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("clubId", clubId);
+        stats.put("memberCount", memberRepository.countByClubId(clubId));
+        return stats;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,341 @@
+package com.example.memberservice.service;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.memberservice.model.Member;
+import com.example.memberservice.repository.MemberRepository;
+
+/**
+ * Prefix index over member names and emails. Each member contributes its full name, every
+ * word of it, and its email as UTF-8 keys ending in the member ID, packed into one sorted byte
+ * array, so a prefix query is a binary search and a scan that stops after K distinct members.
+ * Writes since the last build go to a small sorted overlay that is merged in once it grows.
+ * Only IDs are held; matched members are read by primary key. Text is lower-cased and
+ * stripped of accents.
+ */
+@Component
+public class MemberTypeahead {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberTypeahead.class);
+    private static final byte NAME = 'n';
+    private static final byte EMAIL = 'e';
+    // Sorts before every byte of a normalized term, which never contains control characters
+    private static final byte SEPARATOR = 0;
+
+    private final MemberRepository memberRepository;
+    private final int compactionThreshold;
+    private final Object writeLock = new Object();
+    private volatile State state = new State(Segment.EMPTY);
+    // Members written while the initial load is querying the table; the load must not overwrite them
+    private Set<Long> touchedDuringLoad;
+
+    @Autowired
+    public MemberTypeahead(MemberRepository memberRepository,
+                           @Value("${member.service.typeahead.compaction-threshold:10000}") int compactionThreshold) {
+        this.memberRepository = memberRepository;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (writeLock) {
+            touchedDuringLoad = new HashSet<>();
+        }
+        List<Member> all;
+        try {
+            all = memberRepository.findAll();
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                touchedDuringLoad = null;
+            }
+            throw e;
+        }
+        synchronized (writeLock) {
+            List<byte[]> keys = new ArrayList<>();
+            for (Member member : all) {
+                if (!touchedDuringLoad.contains(member.get_Id())) {
+                    keys.addAll(keysOf(member));
+                }
+            }
+            keys.sort(Arrays::compareUnsigned);
+            // Members written meanwhile live in the overlay and never had entries in the new segment
+            State loaded = new State(Segment.of(keys));
+            loaded.overlay.addAll(state.overlay);
+            loaded.overlayKeys.putAll(state.overlayKeys);
+            state = loaded;
+            touchedDuringLoad = null;
+        }
+        log.info("Member typeahead loaded with {} members and {} keys ({} bytes)",
+                all.size(), state.segment.size(), state.segment.data.length);
+    }
+
+    public void put(Member member) {
+        synchronized (writeLock) {
+            State current = state;
+            unindex(current, member.get_Id());
+            List<byte[]> keys = keysOf(member);
+            current.overlay.addAll(keys);
+            current.overlayKeys.put(member.get_Id(), keys);
+            if (touchedDuringLoad != null) {
+                touchedDuringLoad.add(member.get_Id());
+            }
+            compactIfNeeded(current);
+        }
+    }
+
+    public void remove(long memberId) {
+        synchronized (writeLock) {
+            State current = state;
+            unindex(current, memberId);
+            if (touchedDuringLoad != null) {
+                touchedDuringLoad.add(memberId);
+            }
+            compactIfNeeded(current);
+        }
+    }
+
+    // Up to limit members whose name, a word of it, or email starts with the query; name matches first
+    public List<Member> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return new ArrayList<>();
+        }
+        State current = state;
+        Set<Long> ids = new LinkedHashSet<>();
+        collect(current, key(NAME, prefix), ids, limit);
+        collect(current, key(EMAIL, prefix), ids, limit);
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Member> found = memberRepository.findByIds(ids).stream()
+                .collect(Collectors.toMap(Member::get_Id, Function.identity()));
+        List<Member> matches = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Member member = found.get(id);
+            if (member != null) {
+                matches.add(member);
+            }
+        }
+        return matches;
+    }
+
+    // Walks the segment and the overlay in key order, skipping segment entries of rewritten members
+    private static void collect(State state, byte[] prefix, Set<Long> ids, int limit) {
+        Segment segment = state.segment;
+        int i = segment.lowerBound(prefix);
+        Iterator<byte[]> overlay = state.overlay.tailSet(prefix, true).iterator();
+        byte[] pending = nextMatch(overlay, prefix);
+        while (ids.size() < limit) {
+            boolean inSegment = i < segment.size() && segment.startsWith(i, prefix);
+            if (!inSegment && pending == null) {
+                return;
+            }
+            if (inSegment && (pending == null || segment.compareTo(i, pending) <= 0)) {
+                long id = segment.idAt(i++);
+                if (!state.rewritten.contains(id)) {
+                    ids.add(id);
+                }
+            } else {
+                ids.add(idOf(pending, 0, pending.length));
+                pending = nextMatch(overlay, prefix);
+            }
+        }
+    }
+
+    private static byte[] nextMatch(Iterator<byte[]> keys, byte[] prefix) {
+        if (!keys.hasNext()) {
+            return null;
+        }
+        byte[] key = keys.next();
+        return key.length >= prefix.length && Arrays.equals(key, 0, prefix.length, prefix, 0, prefix.length) ? key : null;
+    }
+
+    // The member's segment entries are masked and its overlay entries dropped
+    private static void unindex(State state, long memberId) {
+        state.rewritten.add(memberId);
+        List<byte[]> previous = state.overlayKeys.remove(memberId);
+        if (previous != null) {
+            previous.forEach(state.overlay::remove);
+        }
+    }
+
+    // Merges the overlay into a new segment once enough members were written since the last build
+    private void compactIfNeeded(State current) {
+        // The initial load rebuilds the segment itself and keeps the overlay for members written meanwhile
+        if (current.rewritten.size() < compactionThreshold || touchedDuringLoad != null) {
+            return;
+        }
+        Segment segment = current.segment;
+        List<byte[]> merged = new ArrayList<>(segment.size() + current.overlay.size());
+        Iterator<byte[]> overlay = current.overlay.iterator();
+        byte[] pending = overlay.hasNext() ? overlay.next() : null;
+        for (int i = 0; i < segment.size(); i++) {
+            if (current.rewritten.contains(segment.idAt(i))) {
+                continue;
+            }
+            byte[] key = segment.keyAt(i);
+            while (pending != null && Arrays.compareUnsigned(pending, key) < 0) {
+                merged.add(pending);
+                pending = overlay.hasNext() ? overlay.next() : null;
+            }
+            merged.add(key);
+        }
+        while (pending != null) {
+            merged.add(pending);
+            pending = overlay.hasNext() ? overlay.next() : null;
+        }
+        state = new State(Segment.of(merged));
+        log.info("Member typeahead compacted to {} keys ({} bytes)", state.segment.size(), state.segment.data.length);
+    }
+
+    private static List<byte[]> keysOf(Member member) {
+        Set<String> names = new HashSet<>();
+        String name = normalize(member.get_Name());
+        if (!name.isEmpty()) {
+            names.add(name);
+            names.addAll(Arrays.asList(name.split(" ")));
+        }
+        List<byte[]> keys = new ArrayList<>(names.size() + 1);
+        for (String term : names) {
+            keys.add(key(NAME, term, member.get_Id()));
+        }
+        String email = normalize(member.get_Email());
+        if (!email.isEmpty()) {
+            keys.add(key(EMAIL, email, member.get_Id()));
+        }
+        return keys;
+    }
+
+    private static byte[] key(byte kind, String term) {
+        byte[] text = term.getBytes(StandardCharsets.UTF_8);
+        byte[] key = new byte[text.length + 1];
+        key[0] = kind;
+        System.arraycopy(text, 0, key, 1, text.length);
+        return key;
+    }
+
+    // kind, term, separator, then the ID big-endian so entries for one term sort by ID
+    private static byte[] key(byte kind, String term, long id) {
+        byte[] prefix = key(kind, term);
+        byte[] key = Arrays.copyOf(prefix, prefix.length + 1 + Long.BYTES);
+        key[prefix.length] = SEPARATOR;
+        for (int i = 0; i < Long.BYTES; i++) {
+            key[key.length - 1 - i] = (byte) (id >>> (8 * i));
+        }
+        return key;
+    }
+
+    private static long idOf(byte[] data, int from, int to) {
+        long id = 0;
+        for (int i = to - Long.BYTES; i < to; i++) {
+            id = (id << 8) | (data[i] & 0xFF);
+        }
+        return id;
+    }
+
+    // Lower case without accents; underscores, control characters and runs of whitespace become single spaces
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String stripped = Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}+", "");
+        return stripped.toLowerCase(Locale.ROOT).replaceAll("[\\s_\\p{Cntrl}]+", " ").trim();
+    }
+
+    // What readers see: the built segment plus writes since; replaced whole on compaction
+    private static final class State {
+        final Segment segment;
+        final ConcurrentSkipListSet<byte[]> overlay = new ConcurrentSkipListSet<>(Arrays::compareUnsigned);
+        final Map<Long, List<byte[]>> overlayKeys = new HashMap<>();
+        // Members whose segment entries are out of date
+        final Set<Long> rewritten = ConcurrentHashMap.newKeySet();
+
+        State(Segment segment) {
+            this.segment = segment;
+        }
+    }
+
+    // Sorted keys packed end to end; key i spans data[offsets[i]] to data[offsets[i + 1]]
+    private static final class Segment {
+        static final Segment EMPTY = new Segment(new byte[0], new int[] { 0 });
+
+        final byte[] data;
+        final int[] offsets;
+
+        Segment(byte[] data, int[] offsets) {
+            this.data = data;
+            this.offsets = offsets;
+        }
+
+        static Segment of(List<byte[]> sortedKeys) {
+            int[] offsets = new int[sortedKeys.size() + 1];
+            for (int i = 0; i < sortedKeys.size(); i++) {
+                offsets[i + 1] = offsets[i] + sortedKeys.get(i).length;
+            }
+            byte[] data = new byte[offsets[sortedKeys.size()]];
+            for (int i = 0; i < sortedKeys.size(); i++) {
+                System.arraycopy(sortedKeys.get(i), 0, data, offsets[i], sortedKeys.get(i).length);
+            }
+            return new Segment(data, offsets);
+        }
+
+        int size() {
+            return offsets.length - 1;
+        }
+
+        // First entry not below key
+        int lowerBound(byte[] key) {
+            int low = 0;
+            int high = size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compareTo(mid, key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        int compareTo(int i, byte[] key) {
+            return Arrays.compareUnsigned(data, offsets[i], offsets[i + 1], key, 0, key.length);
+        }
+
+        boolean startsWith(int i, byte[] prefix) {
+            return offsets[i + 1] - offsets[i] >= prefix.length
+                    && Arrays.equals(data, offsets[i], offsets[i] + prefix.length, prefix, 0, prefix.length);
+        }
+
+        long idAt(int i) {
+            return idOf(data, offsets[i], offsets[i + 1]);
+        }
+
+        byte[] keyAt(int i) {
+            return Arrays.copyOfRange(data, offsets[i], offsets[i + 1]);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.memberservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CsvReaderTest {
+
+    @Test
+    void readsPlainRecordsWithLfAndCrlf() throws IOException {
+        CsvReader csv = reader("name,email\r\nAda,ada@example.com\nGrace,grace@example.com");
+
+        assertEquals(List.of("name", "email"), csv.next());
+        assertEquals(List.of("Ada", "ada@example.com"), csv.next());
+        assertEquals(List.of("Grace", "grace@example.com"), csv.next());
+        assertNull(csv.next());
+    }
+
+    @Test
+    void keepsEmptyFields() throws IOException {
+        CsvReader csv = reader("Ada,,\n,x\n");
+
+        assertEquals(List.of("Ada", "", ""), csv.next());
+        assertEquals(List.of("", "x"), csv.next());
+        assertNull(csv.next());
+    }
+
+    @Test
+    void unquotesCommasLineBreaksAndDoubledQuotes() throws IOException {
+        CsvReader csv = reader("\"Lovelace, Ada\",\"says \"\"hi\"\"\",\"two\r\nlines\"\n");
+
+        assertEquals(List.of("Lovelace, Ada", "says \"hi\"", "two\r\nlines"), csv.next());
+        assertNull(csv.next());
+    }
+
+    @Test
+    void quotesOnlyOpenAFieldAtItsStart() throws IOException {
+        CsvReader csv = reader("O\"Brien,\"\"\n");
+
+        assertEquals(List.of("O\"Brien", ""), csv.next());
+    }
+
+    @Test
+    void tracksThePhysicalLineOfEachRecord() throws IOException {
+        CsvReader csv = reader("a\n\"b\nc\"\nd\n");
+
+        assertEquals(1, csv.line());
+        csv.next();
+        assertEquals(2, csv.line());
+        csv.next();
+        assertEquals(4, csv.line());
+        assertEquals(List.of("d"), csv.next());
+    }
+
+    @Test
+    void rejectsAnUnterminatedQuote() throws IOException {
+        CsvReader csv = reader("Ada,\"never closed\n");
+
+        assertThrows(IOException.class, csv::next);
+    }
+
+    @Test
+    void returnsNullForEmptyInput() throws IOException {
+        assertNull(reader("").next());
+    }
+
+    private static CsvReader reader(String text) {
+        return new CsvReader(new StringReader(text));
+    }
+}
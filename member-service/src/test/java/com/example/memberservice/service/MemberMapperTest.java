@@ -0,0 +1,51 @@
+package com.example.memberservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import com.example.memberservice.dto.MemberDTO;
+import com.example.memberservice.model.Member;
+
+// MemberMapper must copy exactly what ModelMapper used to copy
+class MemberMapperTest {
+
+    private final MemberMapper mapper = new MemberMapper();
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    @Test
+    void toDtoMatchesModelMapper() {
+        Member member = new Member(12, "Ada Lovelace", "ada@example.com", "555-0100", 3);
+
+        MemberDTO expected = modelMapper.map(member, MemberDTO.class);
+        MemberDTO actual = mapper.toDto(member);
+
+        assertEquals(expected.get_Id(), actual.get_Id());
+        assertEquals(expected.get_Name(), actual.get_Name());
+        assertEquals(expected.get_Email(), actual.get_Email());
+        assertEquals(expected.get_Phone(), actual.get_Phone());
+        assertEquals(expected.get_ClubId(), actual.get_ClubId());
+    }
+
+    @Test
+    void toEntityMatchesModelMapper() {
+        MemberDTO dto = new MemberDTO(12, "Ada Lovelace", "ada@example.com", "555-0100", 3);
+
+        Member expected = modelMapper.map(dto, Member.class);
+        Member actual = mapper.toEntity(dto);
+
+        assertEquals(expected.get_Id(), actual.get_Id());
+        assertEquals(expected.get_Name(), actual.get_Name());
+        assertEquals(expected.get_Email(), actual.get_Email());
+        assertEquals(expected.get_Phone(), actual.get_Phone());
+        assertEquals(expected.get_ClubId(), actual.get_ClubId());
+    }
+
+    @Test
+    void nullMapsToNull() {
+        assertNull(mapper.toDto(null));
+        assertNull(mapper.toEntity(null));
+    }
+}
@@ -1,20 +1,31 @@
 package com.example.registrationservice.config;
 
-import org.modelmapper.ModelMapper;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
 @Configuration
+@EnableScheduling
 public class AppConfig {
 
     @Bean
-    public ModelMapper modelMapper() {
-        return new ModelMapper();
+    public RestClient restClient(@Value("${registration.service.lookup.connect-timeout:1000}") int connectTimeout,
+                                 @Value("${registration.service.lookup.read-timeout:2000}") int readTimeout) {
+        // Bound every remote call so a hung member/event service cannot pin a request thread
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout(readTimeout);
+        return RestClient.builder().requestFactory(requestFactory).build();
     }
 
-    @Bean
-    public RestClient restClient() {
-        return RestClient.builder().build();
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService lookupExecutor(@Value("${registration.service.lookup.threads:16}") int threads) {
+        return Executors.newFixedThreadPool(threads);
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,17 @@
 package com.example.registrationservice.controller;
 
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,8 +21,13 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.registrationservice.dto.BulkRegistrationDTO;
+import com.example.registrationservice.dto.BulkStatusUpdateDTO;
+import com.example.registrationservice.dto.NameChangeDTO;
 import com.example.registrationservice.dto.RegistrationDTO;
+import com.example.registrationservice.dto.RegistrationTicketDTO;
 import com.example.registrationservice.service.RegistrationService;
 
 @RestController
@@ -38,6 +50,29 @@ public class RegistrationController {
         return registrationService.getAllRegistrations();
     }
 
+    @GetMapping("/registrations/export")
+    public ResponseEntity<StreamingResponseBody> exportRegistrations(
+            @RequestParam(required = false) Long eventId,
+            @RequestParam(required = false) Long memberId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                try (OutputStream zipped = new GZIPOutputStream(out, 8192)) {
+                    registrationService.exportRegistrations(eventId, memberId, from, to, zipped);
+                }
+            } else {
+                registrationService.exportRegistrations(eventId, memberId, from, to, out);
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     @GetMapping("/registrations/{id}")
     public ResponseEntity<RegistrationDTO> getRegistrationById(@PathVariable long id) {
         return registrationService.getRegistrationById(id)
@@ -55,6 +90,16 @@ public class RegistrationController {
         return registrationService.getRegistrationsByEvent(eventId);
     }
 
+    @GetMapping("/registrations/member/{memberId}/statistics")
+    public Map<String, Object> getMemberRegistrationStatistics(@PathVariable long memberId) {
+        return registrationService.getMemberRegistrationStatistics(memberId);
+    }
+
+    @GetMapping("/registrations/event/{eventId}/statistics")
+    public Map<String, Object> getEventRegistrationStatistics(@PathVariable long eventId) {
+        return registrationService.getEventRegistrationStatistics(eventId);
+    }
+
     @PostMapping("/registrations")
     public RegistrationDTO createRegistration(@RequestBody RegistrationDTO registrationDTO) {
         return registrationService.createRegistration(registrationDTO);
@@ -67,6 +112,32 @@ public class RegistrationController {
                 .orElse(ResponseEntity.badRequest().build());
     }
 
+    @PostMapping(value = "/registrations/register/{memberId}/{eventId}", params = "async=true")
+    public ResponseEntity<RegistrationTicketDTO> registerMemberForEventAsync(@PathVariable long memberId, @PathVariable long eventId) {
+        RegistrationTicketDTO ticket = registrationService.registerMemberForEventAsync(memberId, eventId);
+        switch (ticket.get_Status()) {
+            case "QUEUED":
+                return ResponseEntity.accepted().body(ticket);
+            case "REJECTED":
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(ticket);
+            default:
+                return ResponseEntity.badRequest().body(ticket);
+        }
+    }
+
+    @GetMapping("/registrations/tickets/{ticketId}")
+    public ResponseEntity<RegistrationTicketDTO> getRegistrationTicket(@PathVariable String ticketId) {
+        return registrationService.getRegistrationTicket(ticketId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/registrations/bulk")
+    public ResponseEntity<Map<String, Object>> registerMembersForEvent(@RequestBody BulkRegistrationDTO request) {
+        Map<String, Object> response = registrationService.registerMembersForEvent(request.get_EventId(), request.get_MemberIds());
+        return response.containsKey("error") ? ResponseEntity.badRequest().body(response) : ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/registrations/unregister/{memberId}/{eventId}")
     public Map<String, Object> unregisterMemberFromEvent(@PathVariable long memberId, @PathVariable long eventId) {
         boolean success = registrationService.unregisterMemberFromEvent(memberId, eventId);
@@ -83,6 +154,12 @@ public class RegistrationController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @PutMapping("/registrations/status/bulk")
+    public ResponseEntity<Map<String, Object>> updateRegistrationStatuses(@RequestBody BulkStatusUpdateDTO request) {
+        Map<String, Object> response = registrationService.updateRegistrationStatuses(request);
+        return response.containsKey("error") ? ResponseEntity.badRequest().body(response) : ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/registrations/{id}")
     public Map<String, String> deleteRegistration(@PathVariable long id) {
         registrationService.deleteRegistration(id);
@@ -91,8 +168,56 @@ public class RegistrationController {
         return response;
     }
 
+    @PostMapping("/registrations/event/statistics/batch")
+    public Map<Long, Map<String, Object>> getEventRegistrationStatistics(@RequestBody List<Long> eventIds) {
+        return registrationService.getEventRegistrationStatistics(eventIds);
+    }
+
     @GetMapping("/registrations/statistics")
     public Map<String, Object> getRegistrationStatistics() {
         return registrationService.getRegistrationStatistics();
     }
+
+    @GetMapping("/registrations/waitlist/event/{eventId}")
+    public Map<String, Object> getWaitlist(@PathVariable long eventId) {
+        return registrationService.getWaitlist(eventId);
+    }
+
+    @GetMapping("/registrations/waitlist/event/{eventId}/member/{memberId}")
+    public ResponseEntity<Map<String, Object>> getWaitlistPosition(@PathVariable long eventId, @PathVariable long memberId) {
+        return registrationService.getWaitlistPosition(eventId, memberId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PutMapping("/registrations/names/members")
+    public Map<String, Object> applyMemberRenames(@RequestBody List<NameChangeDTO> changes) {
+        return registrationService.applyMemberRenames(changes);
+    }
+
+    @PutMapping("/registrations/names/events")
+    public Map<String, Object> applyEventRenames(@RequestBody List<NameChangeDTO> changes) {
+        return registrationService.applyEventRenames(changes);
+    }
+
+    @GetMapping("/registrations/cache/statistics")
+    public Map<String, Object> getLookupCacheStatistics() {
+        return registrationService.getLookupCacheStatistics();
+    }
+
+    @DeleteMapping("/registrations/cache/members/{memberId}")
+    public Map<String, String> invalidateMemberLookup(@PathVariable long memberId) {
+        registrationService.invalidateMemberLookup(memberId);
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "Member lookup invalidated");
+        return response;
+    }
+
+    @DeleteMapping("/registrations/cache/events/{eventId}")
+    public Map<String, String> invalidateEventLookup(@PathVariable long eventId) {
+        registrationService.invalidateEventLookup(eventId);
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "Event lookup invalidated");
+        return response;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.example.registrationservice.dto;
+
+import java.util.List;
+
+public class BulkRegistrationDTO {
+    long _EventId;
+    List<Long> _MemberIds;
+
+    public BulkRegistrationDTO() {
+        // Default constructor
+    }
+
+    public BulkRegistrationDTO(long eventId, List<Long> memberIds) {
+        _EventId = eventId;
+        _MemberIds = memberIds;
+    }
+
+    // Getters and Setters
+    public long get_EventId() { 
+        return _EventId; }
+    public void set_EventId(long eventId) { 
+        _EventId = eventId; }
+    public List<Long> get_MemberIds() { 
+        return _MemberIds; }
+    public void set_MemberIds(List<Long> memberIds) { 
+        _MemberIds = memberIds; }
+}
@@ -0,0 +1,39 @@
+package com.example.registrationservice.dto;
+
+import java.util.List;
+
+public class BulkStatusUpdateDTO {
+    Long _EventId;
+    String _CurrentStatus;
+    List<Long> _Ids;
+    String _TargetStatus;
+
+    public BulkStatusUpdateDTO() {
+        // Default constructor
+    }
+
+    public BulkStatusUpdateDTO(Long eventId, String currentStatus, List<Long> ids, String targetStatus) {
+        _EventId = eventId;
+        _CurrentStatus = currentStatus;
+        _Ids = ids;
+        _TargetStatus = targetStatus;
+    }
+
+    // Getters and Setters
+    public Long get_EventId() { 
+        return _EventId; }
+    public void set_EventId(Long eventId) { 
+        _EventId = eventId; }
+    public String get_CurrentStatus() { 
+        return _CurrentStatus; }
+    public void set_CurrentStatus(String currentStatus) { 
+        _CurrentStatus = currentStatus; }
+    public List<Long> get_Ids() { 
+        return _Ids; }
+    public void set_Ids(List<Long> ids) { 
+        _Ids = ids; }
+    public String get_TargetStatus() { 
+        return _TargetStatus; }
+    public void set_TargetStatus(String targetStatus) { 
+        _TargetStatus = targetStatus; }
+}
@@ -0,0 +1,25 @@
+package com.example.registrationservice.dto;
+
+public class NameChangeDTO {
+    long _Id;
+    String _Name;
+
+    public NameChangeDTO() {
+        // Default constructor
+    }
+
+    public NameChangeDTO(long id, String name) {
+        _Id = id;
+        _Name = name;
+    }
+
+    // Getters and Setters
+    public long get_Id() { 
+        return _Id; }
+    public void set_Id(long id) { 
+        _Id = id; }
+    public String get_Name() { 
+        return _Name; }
+    public void set_Name(String name) { 
+        _Name = name; }
+}
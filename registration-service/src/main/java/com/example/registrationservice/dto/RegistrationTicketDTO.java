@@ -0,0 +1,37 @@
+package com.example.registrationservice.dto;
+
+public class RegistrationTicketDTO {
+    String _TicketId;
+    String _Status;
+    long _RegistrationId;
+    String _Message;
+
+    public RegistrationTicketDTO() {
+        // Default constructor
+    }
+
+    public RegistrationTicketDTO(String ticketId, String status, long registrationId, String message) {
+        _TicketId = ticketId;
+        _Status = status;
+        _RegistrationId = registrationId;
+        _Message = message;
+    }
+
+    // Getters and Setters
+    public String get_TicketId() { 
+        return _TicketId; }
+    public void set_TicketId(String ticketId) { 
+        _TicketId = ticketId; }
+    public String get_Status() { 
+        return _Status; }
+    public void set_Status(String status) { 
+        _Status = status; }
+    public long get_RegistrationId() { 
+        return _RegistrationId; }
+    public void set_RegistrationId(long registrationId) { 
+        _RegistrationId = registrationId; }
+    public String get_Message() { 
+        return _Message; }
+    public void set_Message(String message) { 
+        _Message = message; }
+}
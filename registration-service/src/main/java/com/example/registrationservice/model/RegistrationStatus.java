@@ -0,0 +1,40 @@
+package com.example.registrationservice.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+// Legal registration status transitions; rows with no status may move anywhere
+public final class RegistrationStatus {
+
+    public static final String PENDING = "PENDING";
+    public static final String CONFIRMED = "CONFIRMED";
+    public static final String WAITLIST = "WAITLIST";
+    public static final String ATTENDED = "ATTENDED";
+    public static final String CANCELLED = "CANCELLED";
+
+    private static final Map<String, Set<String>> TRANSITIONS = new HashMap<>();
+
+    static {
+        TRANSITIONS.put(PENDING, Set.of(CONFIRMED, WAITLIST, CANCELLED));
+        TRANSITIONS.put(WAITLIST, Set.of(CONFIRMED, CANCELLED));
+        TRANSITIONS.put(CONFIRMED, Set.of(ATTENDED, CANCELLED));
+        TRANSITIONS.put(CANCELLED, Set.of(CONFIRMED));
+        TRANSITIONS.put(ATTENDED, Collections.emptySet());
+    }
+
+    private RegistrationStatus() {
+    }
+
+    public static boolean isKnown(String status) {
+        return TRANSITIONS.containsKey(status);
+    }
+
+    public static boolean canTransition(String from, String to) {
+        if (!isKnown(to)) {
+            return false;
+        }
+        return from == null || !isKnown(from) || TRANSITIONS.get(from).contains(to);
+    }
+}
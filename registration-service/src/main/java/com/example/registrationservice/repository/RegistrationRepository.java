@@ -1,7 +1,11 @@
 package com.example.registrationservice.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import com.example.registrationservice.model.Registration;
 
@@ -10,9 +14,30 @@ public interface RegistrationRepository {
     Optional<Registration> findById(long id);
     List<Registration> findByMemberId(long memberId);
     List<Registration> findByEventId(long eventId);
+    Optional<Registration> findByMemberIdAndEventId(long memberId, long eventId);
+    List<Registration> findByEventIdAndStatus(long eventId, String status);
+    void streamFiltered(Long eventId, Long memberId, LocalDateTime from, LocalDateTime to, Consumer<Registration> consumer);
+    boolean existsByMemberIdAndEventId(long memberId, long eventId);
+    List<Long> findMemberIdsRegisteredForEvent(long eventId, List<Long> memberIds);
+    void forEachMemberEventPair(BiConsumer<Long, Long> consumer);
     Registration save(Registration registration);
+    List<Registration> saveAll(List<Registration> registrations);
     void deleteById(long id);
     int deleteByMemberIdAndEventId(long memberId, long eventId);
     Optional<Registration> updateStatus(long id, String status);
+    boolean updateStatusIfCurrent(long id, String currentStatus, String newStatus);
+    List<Registration> findForStatusUpdate(Long eventId, String currentStatus, List<Long> ids);
+    List<Long> findEventIdsForStatusUpdate(Long eventId, String currentStatus, List<Long> ids);
+    int updateStatusByIds(List<Long> ids, String status);
+    int updateMemberNames(Map<Long, String> names);
+    int updateEventNames(Map<Long, String> names);
     long count();
+    long countSeatsTaken(long eventId);
+    Map<Long, Long> countSeatsTakenByEvent();
+    Map<String, Long> countByStatus();
+    Map<String, Long> countByStatusForEvent(long eventId);
+    Map<Long, Map<String, Long>> countByStatusForEvents(List<Long> eventIds);
+    Map<String, Long> countByStatusForMember(long memberId);
+    Map<Long, Map<String, Long>> countByEventAndStatus();
+    Map<Long, Map<String, Long>> countByMemberAndStatus();
 }
\ No newline at end of file
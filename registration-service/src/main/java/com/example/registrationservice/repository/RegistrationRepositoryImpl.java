@@ -1,19 +1,39 @@
 package com.example.registrationservice.repository;
 
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.registrationservice.model.Registration;
 
 @Repository
 public class RegistrationRepositoryImpl implements RegistrationRepository {
 
+    // Every registration except a cancelled or waitlisted one occupies a seat
+    private static final String HOLDS_SEAT = "(status IS NULL OR status NOT IN ('CANCELLED', 'WAITLIST'))";
+    private static final String INSERT_SQL = "INSERT INTO registrations (member_id, event_id, registration_date, status, member_name, event_name) VALUES (?, ?, ?, ?, ?, ?)";
+
     private final JdbcTemplate jdbcTemplate;
 
     @Autowired
@@ -49,13 +69,143 @@ public class RegistrationRepositoryImpl implements RegistrationRepository {
         return jdbcTemplate.query(sql, new RegistrationRowMapper(), eventId);
     }
 
+    // Single-row lookup on the (member_id, event_id) unique key
+    @Override
+    public Optional<Registration> findByMemberIdAndEventId(long memberId, long eventId) {
+        String sql = "SELECT * FROM registrations WHERE member_id = ? AND event_id = ?";
+        try {
+            return Optional.ofNullable(jdbcTemplate.queryForObject(sql, new RegistrationRowMapper(), memberId, eventId));
+        } catch (EmptyResultDataAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public List<Registration> findByEventIdAndStatus(long eventId, String status) {
+        String sql = "SELECT * FROM registrations WHERE event_id = ? AND status = ? ORDER BY id";
+        return jdbcTemplate.query(sql, new RegistrationRowMapper(), eventId, status);
+    }
+
+    @Override
+    public void streamFiltered(Long eventId, Long memberId, LocalDateTime from, LocalDateTime to, Consumer<Registration> consumer) {
+        StringBuilder sql = new StringBuilder("SELECT * FROM registrations WHERE 1 = 1");
+        List<Object> params = new ArrayList<>();
+        if (eventId != null) {
+            sql.append(" AND event_id = ?");
+            params.add(eventId);
+        }
+        if (memberId != null) {
+            sql.append(" AND member_id = ?");
+            params.add(memberId);
+        }
+        if (from != null) {
+            sql.append(" AND registration_date >= ?");
+            params.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND registration_date < ?");
+            params.add(Timestamp.valueOf(to));
+        }
+        RegistrationRowMapper rowMapper = new RegistrationRowMapper();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // Integer.MIN_VALUE makes Connector/J stream rows one at a time instead of buffering the result
+            ps.setFetchSize(Integer.MIN_VALUE);
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            return ps;
+        }, rs -> {
+            consumer.accept(rowMapper.mapRow(rs, rs.getRow()));
+        });
+    }
+
+    @Override
+    public boolean existsByMemberIdAndEventId(long memberId, long eventId) {
+        String sql = "SELECT EXISTS (SELECT 1 FROM registrations WHERE member_id = ? AND event_id = ?)";
+        Boolean exists = jdbcTemplate.queryForObject(sql, Boolean.class, memberId, eventId);
+        return exists != null && exists;
+    }
+
+    @Override
+    public List<Long> findMemberIdsRegisteredForEvent(long eventId, List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(memberIds.size(), "?"));
+        String sql = "SELECT member_id FROM registrations WHERE event_id = ? AND member_id IN (" + placeholders + ")";
+        List<Object> params = new ArrayList<>(memberIds.size() + 1);
+        params.add(eventId);
+        params.addAll(memberIds);
+        return jdbcTemplate.queryForList(sql, Long.class, params.toArray());
+    }
+
+    @Override
+    public void forEachMemberEventPair(BiConsumer<Long, Long> consumer) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement("SELECT member_id, event_id FROM registrations",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            return ps;
+        }, rs -> {
+            consumer.accept(rs.getLong("member_id"), rs.getLong("event_id"));
+        });
+    }
+
     @Override
     public Registration save(Registration reg) {
-        String sql = "INSERT INTO registrations (member_id, event_id, registration_date, status, member_name, event_name) VALUES (?, ?, ?, ?, ?, ?)";
-        jdbcTemplate.update(sql, reg.get_MemberId(), reg.get_EventId(), reg.get_RegistrationDate(), reg.get_Status(), reg.get_MemberName(), reg.get_EventName());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+            bindInsert(ps, reg);
+            return ps;
+        }, keyHolder);
+        Number key = keyHolder.getKey();
+        if (key != null) {
+            reg.set_Id(key.longValue());
+        }
         return reg;
     }
 
+    @Override
+    @Transactional
+    public List<Registration> saveAll(List<Registration> registrations) {
+        if (registrations.isEmpty()) {
+            return registrations;
+        }
+        // One multi-row batch instead of a round trip per registration
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        bindInsert(ps, registrations.get(i));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return registrations.size();
+                    }
+                }, keyHolder);
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < keys.size() && i < registrations.size(); i++) {
+            Object key = keys.get(i).values().stream().findFirst().orElse(null);
+            if (key instanceof Number) {
+                registrations.get(i).set_Id(((Number) key).longValue());
+            }
+        }
+        return registrations;
+    }
+
+    private static void bindInsert(PreparedStatement ps, Registration reg) throws SQLException {
+        ps.setLong(1, reg.get_MemberId());
+        ps.setLong(2, reg.get_EventId());
+        ps.setTimestamp(3, reg.get_RegistrationDate() != null ? Timestamp.valueOf(reg.get_RegistrationDate()) : null);
+        ps.setString(4, reg.get_Status());
+        ps.setString(5, reg.get_MemberName());
+        ps.setString(6, reg.get_EventName());
+    }
+
     @Override
     public void deleteById(long id) {
         String sql = "DELETE FROM registrations WHERE id = ?";
@@ -75,10 +225,175 @@ public class RegistrationRepositoryImpl implements RegistrationRepository {
         return updatedRows > 0 ? findById(id) : Optional.empty();
     }
 
+    @Override
+    public boolean updateStatusIfCurrent(long id, String currentStatus, String newStatus) {
+        // Compare-and-set on the status column so concurrent transitions cannot skip the state machine
+        String sql = "UPDATE registrations SET status = ? WHERE id = ? AND status <=> ?";
+        return jdbcTemplate.update(sql, newStatus, id, currentStatus) > 0;
+    }
+
+    @Override
+    public List<Registration> findForStatusUpdate(Long eventId, String currentStatus, List<Long> ids) {
+        List<Object> params = new ArrayList<>();
+        String sql = "SELECT * FROM registrations" + statusUpdateFilter(eventId, currentStatus, ids, params) + " FOR UPDATE";
+        return jdbcTemplate.query(sql, new RegistrationRowMapper(), params.toArray());
+    }
+
+    @Override
+    public List<Long> findEventIdsForStatusUpdate(Long eventId, String currentStatus, List<Long> ids) {
+        List<Object> params = new ArrayList<>();
+        String sql = "SELECT DISTINCT event_id FROM registrations" + statusUpdateFilter(eventId, currentStatus, ids, params);
+        return jdbcTemplate.queryForList(sql, Long.class, params.toArray());
+    }
+
+    private static String statusUpdateFilter(Long eventId, String currentStatus, List<Long> ids, List<Object> params) {
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        if (eventId != null) {
+            where.append(" AND event_id = ?");
+            params.add(eventId);
+        }
+        if (currentStatus != null) {
+            where.append(" AND status = ?");
+            params.add(currentStatus);
+        }
+        if (ids != null && !ids.isEmpty()) {
+            where.append(" AND id IN (").append(String.join(", ", Collections.nCopies(ids.size(), "?"))).append(")");
+            params.addAll(ids);
+        }
+        return where.toString();
+    }
+
+    @Override
+    public int updateStatusByIds(List<Long> ids, String status) {
+        int updated = 0;
+        // Chunked so very large transitions stay within sane statement sizes
+        for (int from = 0; from < ids.size(); from += 1000) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + 1000));
+            String sql = "UPDATE registrations SET status = ? WHERE id IN (" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+            List<Object> params = new ArrayList<>(chunk.size() + 1);
+            params.add(status);
+            params.addAll(chunk);
+            updated += jdbcTemplate.update(sql, params.toArray());
+        }
+        return updated;
+    }
+
+    @Override
+    public int updateMemberNames(Map<Long, String> names) {
+        return updateNames("member_name", "member_id", names);
+    }
+
+    @Override
+    public int updateEventNames(Map<Long, String> names) {
+        return updateNames("event_name", "event_id", names);
+    }
+
+    // One CASE-based UPDATE per chunk rewrites every row of every renamed member or event
+    private int updateNames(String nameColumn, String idColumn, Map<Long, String> names) {
+        List<Map.Entry<Long, String>> entries = new ArrayList<>(names.entrySet());
+        int updated = 0;
+        for (int from = 0; from < entries.size(); from += 1000) {
+            List<Map.Entry<Long, String>> chunk = entries.subList(from, Math.min(entries.size(), from + 1000));
+            String sql = "UPDATE registrations SET " + nameColumn + " = CASE " + idColumn
+                    + String.join("", Collections.nCopies(chunk.size(), " WHEN ? THEN ?"))
+                    + " END WHERE " + idColumn + " IN (" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+            List<Object> params = new ArrayList<>(chunk.size() * 3);
+            chunk.forEach(entry -> {
+                params.add(entry.getKey());
+                params.add(entry.getValue());
+            });
+            chunk.forEach(entry -> params.add(entry.getKey()));
+            updated += jdbcTemplate.update(sql, params.toArray());
+        }
+        return updated;
+    }
+
     @Override
     public long count() {
         String sql = "SELECT count(*) FROM registrations";
         Long count = jdbcTemplate.queryForObject(sql, Long.class);
         return count != null ? count : 0;
     }
+
+    @Override
+    public long countSeatsTaken(long eventId) {
+        String sql = "SELECT count(*) FROM registrations WHERE event_id = ? AND " + HOLDS_SEAT;
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, eventId);
+        return count != null ? count : 0;
+    }
+
+    @Override
+    public Map<Long, Long> countSeatsTakenByEvent() {
+        String sql = "SELECT event_id, count(*) AS seats FROM registrations WHERE " + HOLDS_SEAT + " GROUP BY event_id";
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            counts.put(rs.getLong("event_id"), rs.getLong("seats"));
+        });
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> countByStatus() {
+        String sql = "SELECT status, count(*) AS total FROM registrations GROUP BY status";
+        Map<String, Long> counts = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            counts.put(rs.getString("status"), rs.getLong("total"));
+        });
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> countByStatusForEvent(long eventId) {
+        String sql = "SELECT status, count(*) AS total FROM registrations WHERE event_id = ? GROUP BY status";
+        Map<String, Long> counts = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            counts.put(rs.getString("status"), rs.getLong("total"));
+        }, eventId);
+        return counts;
+    }
+
+    @Override
+    public Map<Long, Map<String, Long>> countByStatusForEvents(List<Long> eventIds) {
+        Map<Long, Map<String, Long>> counts = new HashMap<>();
+        for (int from = 0; from < eventIds.size(); from += 1000) {
+            List<Long> chunk = eventIds.subList(from, Math.min(eventIds.size(), from + 1000));
+            String sql = "SELECT event_id, status, count(*) AS total FROM registrations WHERE event_id IN ("
+                    + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ") GROUP BY event_id, status";
+            jdbcTemplate.query(sql, rs -> {
+                counts.computeIfAbsent(rs.getLong("event_id"), id -> new HashMap<>())
+                        .put(rs.getString("status"), rs.getLong("total"));
+            }, chunk.toArray());
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> countByStatusForMember(long memberId) {
+        String sql = "SELECT status, count(*) AS total FROM registrations WHERE member_id = ? GROUP BY status";
+        Map<String, Long> counts = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            counts.put(rs.getString("status"), rs.getLong("total"));
+        }, memberId);
+        return counts;
+    }
+
+    @Override
+    public Map<Long, Map<String, Long>> countByEventAndStatus() {
+        return countGrouped("event_id");
+    }
+
+    @Override
+    public Map<Long, Map<String, Long>> countByMemberAndStatus() {
+        return countGrouped("member_id");
+    }
+
+    private Map<Long, Map<String, Long>> countGrouped(String column) {
+        String sql = "SELECT " + column + " AS group_id, status, count(*) AS total FROM registrations GROUP BY " + column + ", status";
+        Map<Long, Map<String, Long>> counts = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            counts.computeIfAbsent(rs.getLong("group_id"), id -> new HashMap<>())
+                    .put(rs.getString("status"), rs.getLong("total"));
+        });
+        return counts;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,177 @@
+package com.example.registrationservice.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.registrationservice.repository.RegistrationRepository;
+
+/**
+ * Counting Bloom filter over (memberId, eventId) pairs in the registrations table.
+ * A negative answer proves the pair is not registered, so the hot signup path only
+ * pays for the indexed existence query when the filter reports a possible match.
+ */
+@Component
+public class DuplicateRegistrationFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(DuplicateRegistrationFilter.class);
+
+    private final RegistrationRepository registrationRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private volatile CountingBloomFilter current;
+    private volatile CountingBloomFilter building;
+
+    @Autowired
+    public DuplicateRegistrationFilter(RegistrationRepository registrationRepository,
+                                       @Value("${registration.service.duplicate-filter.expected-insertions:1000000}") long expectedInsertions,
+                                       @Value("${registration.service.duplicate-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.registrationRepository = registrationRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    // True only when the pair really exists; until the first rebuild finishes every check hits the database
+    public boolean isRegistered(long memberId, long eventId) {
+        CountingBloomFilter filter = current;
+        if (filter != null && !filter.mightContain(memberId, eventId)) {
+            return false;
+        }
+        return registrationRepository.existsByMemberIdAndEventId(memberId, eventId);
+    }
+
+    public boolean mightBeRegistered(long memberId, long eventId) {
+        CountingBloomFilter filter = current;
+        return filter == null || filter.mightContain(memberId, eventId);
+    }
+
+    public void added(long memberId, long eventId) {
+        CountingBloomFilter filter = current;
+        if (filter != null) {
+            filter.add(memberId, eventId);
+        }
+        CountingBloomFilter next = building;
+        if (next != null) {
+            next.add(memberId, eventId);
+        }
+    }
+
+    // A filter under construction ignores removals: a stale positive is safe, a false negative is not
+    public void removed(long memberId, long eventId) {
+        CountingBloomFilter filter = current;
+        if (filter != null) {
+            filter.remove(memberId, eventId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${registration.service.duplicate-filter.rebuild-interval:86400000}",
+               initialDelayString = "${registration.service.duplicate-filter.rebuild-interval:86400000}")
+    public void rebuild() {
+        CountingBloomFilter next = new CountingBloomFilter(expectedInsertions, falsePositiveRate);
+        building = next;
+        try {
+            long[] pairs = new long[1];
+            registrationRepository.forEachMemberEventPair((memberId, eventId) -> {
+                next.add(memberId, eventId);
+                pairs[0]++;
+            });
+            current = next;
+            log.info("Duplicate registration filter rebuilt from {} registrations", pairs[0]);
+        } catch (RuntimeException e) {
+            log.warn("Duplicate registration filter rebuild failed: {}", e.toString());
+        } finally {
+            building = null;
+        }
+    }
+
+    /** Four-bit saturating counters packed sixteen to a long and updated with CAS. */
+    static final class CountingBloomFilter {
+        private static final int COUNTERS_PER_WORD = 16;
+        private static final long MAX_COUNT = 15;
+
+        private final AtomicLongArray words;
+        private final long size;
+        private final int hashes;
+
+        CountingBloomFilter(long expectedInsertions, double falsePositiveRate) {
+            long n = Math.max(1, expectedInsertions);
+            long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.size = Math.max(COUNTERS_PER_WORD, m);
+            this.hashes = Math.max(1, (int) Math.round((double) size / n * Math.log(2)));
+            this.words = new AtomicLongArray((int) ((size + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD));
+        }
+
+        boolean mightContain(long memberId, long eventId) {
+            long hash = hash(memberId, eventId);
+            for (int i = 0; i < hashes; i++) {
+                if (counter(index(hash, i)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void add(long memberId, long eventId) {
+            long hash = hash(memberId, eventId);
+            for (int i = 0; i < hashes; i++) {
+                update(index(hash, i), 1);
+            }
+        }
+
+        void remove(long memberId, long eventId) {
+            long hash = hash(memberId, eventId);
+            for (int i = 0; i < hashes; i++) {
+                update(index(hash, i), -1);
+            }
+        }
+
+        private long counter(long index) {
+            int shift = (int) (index % COUNTERS_PER_WORD) * 4;
+            return (words.get((int) (index / COUNTERS_PER_WORD)) >>> shift) & MAX_COUNT;
+        }
+
+        // Saturated counters stick at the maximum, since their true count is no longer known
+        private void update(long index, int delta) {
+            int word = (int) (index / COUNTERS_PER_WORD);
+            int shift = (int) (index % COUNTERS_PER_WORD) * 4;
+            while (true) {
+                long bits = words.get(word);
+                long count = (bits >>> shift) & MAX_COUNT;
+                if (count == MAX_COUNT || (delta < 0 && count == 0)) {
+                    return;
+                }
+                long updated = (bits & ~(MAX_COUNT << shift)) | ((count + delta) << shift);
+                if (words.compareAndSet(word, bits, updated)) {
+                    return;
+                }
+            }
+        }
+
+        // Kirsch-Mitzenmacher double hashing over one 64-bit mix of the pair
+        private long index(long hash, int i) {
+            long combined = (hash & 0xFFFFFFFFL) + i * (hash >>> 32);
+            return Math.floorMod(combined, size);
+        }
+
+        private static long hash(long memberId, long eventId) {
+            return mix(memberId * 0x9E3779B97F4A7C15L ^ mix(eventId));
+        }
+
+        private static long mix(long h) {
+            h ^= h >>> 33;
+            h *= 0xFF51AFD7ED558CCDL;
+            h ^= h >>> 33;
+            h *= 0xC4CEB9FE1A85EC53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.registrationservice.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Member and event lookups against the other services, fronted by size-bounded,
+ * TTL-expiring caches. Concurrent lookups of the same ID share one remote call,
+ * and failed lookups are never cached.
+ */
+@Component
+public class LookupClient {
+
+    private final RestClient restClient;
+    private final ExecutorService lookupExecutor;
+    private final AsyncCache<Long, Map<String, Object>> members;
+    private final AsyncCache<Long, Map<String, Object>> events;
+    private final String memberServiceUrl = "http://localhost:8082";
+    private final String eventServiceUrl = "http://localhost:8083";
+
+    @Value("${registration.service.lookup.timeout:2000}")
+    private long lookupTimeoutMs;
+
+    @Autowired
+    public LookupClient(RestClient restClient, ExecutorService lookupExecutor, MeterRegistry meterRegistry,
+                        @Value("${registration.service.cache.enabled:true}") boolean cacheEnabled,
+                        @Value("${registration.service.cache.ttl:300}") long ttlSeconds,
+                        @Value("${registration.service.cache.max-size:10000}") long maxSize) {
+        this.restClient = restClient;
+        this.lookupExecutor = lookupExecutor;
+        this.members = buildCache(cacheEnabled, ttlSeconds, maxSize);
+        this.events = buildCache(cacheEnabled, ttlSeconds, maxSize);
+        CaffeineCacheMetrics.monitor(meterRegistry, members.synchronous(), "registration.lookup.members");
+        CaffeineCacheMetrics.monitor(meterRegistry, events.synchronous(), "registration.lookup.events");
+    }
+
+    private AsyncCache<Long, Map<String, Object>> buildCache(boolean enabled, long ttlSeconds, long maxSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(enabled ? maxSize : 0)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .executor(lookupExecutor)
+                .recordStats()
+                .buildAsync();
+    }
+
+    // Each caller gets its own copy so cancelling it never cancels a lookup shared with other requests
+    public CompletableFuture<Map<String, Object>> member(long memberId) {
+        return members.get(memberId, (id, executor) -> fetch(memberServiceUrl + "/members/" + id)).copy();
+    }
+
+    public CompletableFuture<Map<String, Object>> event(long eventId) {
+        return events.get(eventId, (id, executor) -> fetch(eventServiceUrl + "/events/" + id)).copy();
+    }
+
+    // Serves cached members directly and resolves the rest with one batch call to MemberService
+    public CompletableFuture<Map<Long, Map<String, Object>>> members(List<Long> memberIds) {
+        return members.getAll(memberIds, (missing, executor) -> CompletableFuture.supplyAsync(() -> {
+            List<Map<String, Object>> found = restClient.post()
+                .uri(memberServiceUrl + "/members/batch")
+                .body(missing)
+                .retrieve()
+                .body(new ParameterizedTypeReference<List<Map<String, Object>>>() {});
+            Map<Long, Map<String, Object>> byId = new HashMap<>();
+            if (found != null) {
+                for (Map<String, Object> member : found) {
+                    byId.put(((Number) member.get("_Id")).longValue(), member);
+                }
+            }
+            return byId;
+        }, lookupExecutor).orTimeout(lookupTimeoutMs, TimeUnit.MILLISECONDS)).copy();
+    }
+
+    // A missing body or name fails the future, which also keeps it out of the cache
+    private CompletableFuture<Map<String, Object>> fetch(String uri) {
+        return CompletableFuture.supplyAsync(() -> {
+            Map<String, Object> body = restClient.get().uri(uri).retrieve().body(Map.class);
+            if (body == null || body.get("_Name") == null) {
+                throw new IllegalStateException("Not found: " + uri);
+            }
+            return body;
+        }, lookupExecutor).orTimeout(lookupTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void invalidateMember(long memberId) {
+        members.synchronous().invalidate(memberId);
+    }
+
+    public void invalidateEvent(long eventId) {
+        events.synchronous().invalidate(eventId);
+    }
+
+    public void invalidateAll() {
+        members.synchronous().invalidateAll();
+        events.synchronous().invalidateAll();
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("members", describe(members));
+        stats.put("events", describe(events));
+        return stats;
+    }
+
+    private static Map<String, Object> describe(AsyncCache<Long, Map<String, Object>> cache) {
+        CacheStats stats = cache.synchronous().stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.synchronous().estimatedSize());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictions", stats.evictionCount());
+        return result;
+    }
+}
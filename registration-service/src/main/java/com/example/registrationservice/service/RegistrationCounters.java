@@ -0,0 +1,217 @@
+package com.example.registrationservice.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.registrationservice.model.Registration;
+import com.example.registrationservice.repository.RegistrationRepository;
+
+/**
+ * Registration counts per event, per member and overall, split by status. Updated after
+ * every committed write so statistics reads never scan the registrations table, and
+ * periodically recounted from it. A tally loaded or recounted while a write is between its
+ * commit and its delta may count that write twice or not at all; the next recount fixes it.
+ */
+@Component
+public class RegistrationCounters {
+
+    private static final Logger log = LoggerFactory.getLogger(RegistrationCounters.class);
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final RegistrationRepository registrationRepository;
+    private final ConcurrentHashMap<Long, Tally> byEvent = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Tally> byMember = new ConcurrentHashMap<>();
+    private volatile Tally overall;
+
+    @Autowired
+    public RegistrationCounters(RegistrationRepository registrationRepository) {
+        this.registrationRepository = registrationRepository;
+    }
+
+    public void recordInsert(Registration reg) {
+        for (Tally tally : tallies(reg)) {
+            tally.add(reg.get_Status(), 1);
+        }
+    }
+
+    public void recordDelete(Registration reg) {
+        for (Tally tally : tallies(reg)) {
+            tally.add(reg.get_Status(), -1);
+        }
+    }
+
+    // Expects the registration as it was before the change
+    public void recordStatusChange(Registration reg, String newStatus) {
+        for (Tally tally : tallies(reg)) {
+            tally.add(reg.get_Status(), -1);
+            tally.add(newStatus, 1);
+        }
+    }
+
+    // Tallies the registration's write must be applied to. Writes are recorded after the row is
+    // written, so a tally loaded here already counts it and is left out
+    private List<Tally> tallies(Registration reg) {
+        List<Tally> tallies = new ArrayList<>(3);
+        Tally tally = loadedBefore(byEvent, reg.get_EventId(), registrationRepository::countByStatusForEvent);
+        if (tally != null) {
+            tallies.add(tally);
+        }
+        tally = loadedBefore(byMember, reg.get_MemberId(), registrationRepository::countByStatusForMember);
+        if (tally != null) {
+            tallies.add(tally);
+        }
+        if (overall != null) {
+            tallies.add(overallTally());
+        } else {
+            synchronized (this) {
+                if (overall != null) {
+                    tallies.add(overall);
+                } else {
+                    overall = new Tally(registrationRepository.countByStatus());
+                }
+            }
+        }
+        return tallies;
+    }
+
+    public Map<String, Object> forEvent(long eventId) {
+        return describe(eventTally(eventId));
+    }
+
+    // Events without a tally yet are loaded together in one grouped query
+    public Map<Long, Map<String, Object>> forEvents(List<Long> eventIds) {
+        List<Long> missing = eventIds.stream().distinct().filter(id -> !byEvent.containsKey(id)).collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            Map<Long, Map<String, Long>> counts = registrationRepository.countByStatusForEvents(missing);
+            missing.forEach(id -> byEvent.putIfAbsent(id, new Tally(counts.getOrDefault(id, Collections.emptyMap()))));
+        }
+        Map<Long, Map<String, Object>> stats = new LinkedHashMap<>();
+        eventIds.forEach(id -> stats.put(id, describe(eventTally(id))));
+        return stats;
+    }
+
+    public Map<String, Object> forMember(long memberId) {
+        return describe(memberTally(memberId));
+    }
+
+    public Map<String, Object> overall() {
+        return describe(overallTally());
+    }
+
+    // "count" covers seat-holding registrations; "total" is every row
+    private static Map<String, Object> describe(Tally tally) {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        long total = 0;
+        long active = 0;
+        for (Map.Entry<String, AtomicLong> entry : tally.byStatus.entrySet()) {
+            long value = entry.getValue().get();
+            if (value == 0) {
+                continue;
+            }
+            byStatus.put(entry.getKey(), value);
+            total += value;
+            if (SeatCounter.holdsSeat(entry.getKey())) {
+                active += value;
+            }
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("count", active);
+        stats.put("total", total);
+        stats.put("byStatus", byStatus);
+        return stats;
+    }
+
+    private Tally eventTally(long eventId) {
+        return tally(byEvent, eventId, registrationRepository::countByStatusForEvent);
+    }
+
+    private Tally memberTally(long memberId) {
+        return tally(byMember, memberId, registrationRepository::countByStatusForMember);
+    }
+
+    private Tally overallTally() {
+        Tally tally = overall;
+        if (tally == null) {
+            synchronized (this) {
+                if (overall == null) {
+                    overall = new Tally(registrationRepository.countByStatus());
+                }
+                tally = overall;
+            }
+        }
+        return tally;
+    }
+
+    private static Tally tally(ConcurrentHashMap<Long, Tally> tallies, long id, LongFunction<Map<String, Long>> loader) {
+        Tally tally = tallies.get(id);
+        if (tally != null) {
+            return tally;
+        }
+        return tallies.computeIfAbsent(id, key -> new Tally(loader.apply(key)));
+    }
+
+    // The existing tally, or null when this call had to load it
+    private static Tally loadedBefore(ConcurrentHashMap<Long, Tally> tallies, long id, LongFunction<Map<String, Long>> loader) {
+        Tally tally = tallies.get(id);
+        if (tally != null) {
+            return tally;
+        }
+        boolean[] loaded = new boolean[1];
+        tally = tallies.computeIfAbsent(id, key -> {
+            loaded[0] = true;
+            return new Tally(loader.apply(key));
+        });
+        return loaded[0] ? null : tally;
+    }
+
+    // Replaces every tally with a fresh count instead of trusting deltas, so no drift outlives one interval
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${registration.service.statistics.reconcile-interval:300000}",
+               initialDelayString = "${registration.service.statistics.reconcile-interval:300000}")
+    public void reconcile() {
+        try {
+            recount(byEvent, registrationRepository.countByEventAndStatus());
+            recount(byMember, registrationRepository.countByMemberAndStatus());
+            overall = new Tally(registrationRepository.countByStatus());
+        } catch (RuntimeException e) {
+            log.warn("Registration counter reconciliation skipped: {}", e.toString());
+        }
+    }
+
+    // Keys left without rows are dropped and reload on next use
+    private static void recount(ConcurrentHashMap<Long, Tally> tallies, Map<Long, Map<String, Long>> counts) {
+        counts.forEach((id, statusCounts) -> tallies.put(id, new Tally(statusCounts)));
+        tallies.keySet().removeIf(id -> !counts.containsKey(id));
+    }
+
+    private static final class Tally {
+        final ConcurrentHashMap<String, AtomicLong> byStatus = new ConcurrentHashMap<>();
+
+        Tally(Map<String, Long> counts) {
+            counts.forEach((status, count) -> byStatus.put(key(status), new AtomicLong(count)));
+        }
+
+        void add(String status, long delta) {
+            byStatus.computeIfAbsent(key(status), s -> new AtomicLong()).addAndGet(delta);
+        }
+
+        private static String key(String status) {
+            return status != null ? status : UNKNOWN;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.registrationservice.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.registrationservice.dto.RegistrationTicketDTO;
+import com.example.registrationservice.model.Registration;
+import com.example.registrationservice.model.RegistrationStatus;
+import com.example.registrationservice.repository.RegistrationRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Write-behind path for signups. Accepted registrations wait in a bounded queue and a single
+ * writer drains whatever has accumulated into one batched, group-committed insert, so
+ * throughput grows with batch size rather than with per-row commit latency.
+ */
+@Component
+public class RegistrationIngestQueue {
+
+    public static final String QUEUED = "QUEUED";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    private static final Logger log = LoggerFactory.getLogger(RegistrationIngestQueue.class);
+
+    private final RegistrationRepository registrationRepository;
+    private final SeatCounter seatCounter;
+    private final RegistrationCounters counters;
+    private final DuplicateRegistrationFilter duplicateFilter;
+    private final WaitlistRegistry waitlists;
+    private final BlockingQueue<Pending> queue;
+    private final Cache<String, RegistrationTicketDTO> tickets;
+    private final int batchSize;
+    private final long shutdownTimeoutMs;
+    private final Thread writer = new Thread(this::drain, "registration-ingest");
+    // Submitters share the read lock; shutdown takes the write lock, so no offer lands after accepting is cleared
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+    private volatile boolean accepting = true;
+
+    @Autowired
+    public RegistrationIngestQueue(RegistrationRepository registrationRepository, SeatCounter seatCounter,
+                                   RegistrationCounters counters, DuplicateRegistrationFilter duplicateFilter,
+                                   WaitlistRegistry waitlists,
+                                   @Value("${registration.service.ingest.queue-capacity:10000}") int queueCapacity,
+                                   @Value("${registration.service.ingest.batch-size:500}") int batchSize,
+                                   @Value("${registration.service.ingest.ticket-ttl:3600}") long ticketTtlSeconds,
+                                   @Value("${registration.service.ingest.shutdown-timeout:30000}") long shutdownTimeoutMs) {
+        this.registrationRepository = registrationRepository;
+        this.seatCounter = seatCounter;
+        this.counters = counters;
+        this.duplicateFilter = duplicateFilter;
+        this.waitlists = waitlists;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.tickets = Caffeine.newBuilder().expireAfterWrite(Duration.ofSeconds(ticketTtlSeconds)).build();
+        this.batchSize = batchSize;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+
+    // Queues a registration whose seat (if it takes one) is already held; empty when the queue is full or shutting down
+    public Optional<RegistrationTicketDTO> submit(Registration registration) {
+        acceptLock.readLock().lock();
+        try {
+            if (!accepting) {
+                return Optional.empty();
+            }
+            RegistrationTicketDTO ticket = new RegistrationTicketDTO(UUID.randomUUID().toString(), QUEUED, 0, null);
+            tickets.put(ticket.get_TicketId(), ticket);
+            if (!queue.offer(new Pending(ticket.get_TicketId(), registration))) {
+                tickets.invalidate(ticket.get_TicketId());
+                return Optional.empty();
+            }
+            return Optional.of(ticket);
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+    }
+
+    public Optional<RegistrationTicketDTO> ticket(String ticketId) {
+        return Optional.ofNullable(tickets.getIfPresent(ticketId));
+    }
+
+    public int depth() {
+        return queue.size();
+    }
+
+    private void drain() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (accepting || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Registration ingest batch of {} failed", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        List<Registration> registrations = new ArrayList<>(batch.size());
+        batch.forEach(pending -> registrations.add(pending.registration));
+        try {
+            registrationRepository.saveAll(registrations);
+            batch.forEach(this::succeeded);
+        } catch (RuntimeException batchFailure) {
+            // Isolate the offending rows so one bad registration does not fail its whole batch
+            log.warn("Batch insert of {} registrations failed, retrying row by row: {}", batch.size(), batchFailure.toString());
+            for (Pending pending : batch) {
+                try {
+                    registrationRepository.save(pending.registration);
+                    succeeded(pending);
+                } catch (RuntimeException rowFailure) {
+                    failed(pending, rowFailure);
+                }
+            }
+        }
+    }
+
+    private void succeeded(Pending pending) {
+        Registration reg = pending.registration;
+        if (SeatCounter.holdsSeat(reg.get_Status())) {
+            seatCounter.complete(reg.get_EventId(), true);
+        } else if (RegistrationStatus.WAITLIST.equals(reg.get_Status())) {
+            waitlists.add(reg);
+        }
+        counters.recordInsert(reg);
+        duplicateFilter.added(reg.get_MemberId(), reg.get_EventId());
+        tickets.put(pending.ticketId, new RegistrationTicketDTO(pending.ticketId, COMPLETED, reg.get_Id(), null));
+    }
+
+    private void failed(Pending pending, RuntimeException cause) {
+        if (SeatCounter.holdsSeat(pending.registration.get_Status())) {
+            seatCounter.complete(pending.registration.get_EventId(), false);
+        }
+        tickets.put(pending.ticketId, new RegistrationTicketDTO(pending.ticketId, FAILED, 0, cause.getMessage()));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // Stop taking work, then let the writer flush everything already accepted
+        acceptLock.writeLock().lock();
+        try {
+            accepting = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+        writer.join(shutdownTimeoutMs);
+        if (writer.isAlive()) {
+            log.warn("Registration ingest did not finish within {} ms, {} registrations left unwritten", shutdownTimeoutMs, queue.size());
+            writer.interrupt();
+            writer.join(shutdownTimeoutMs);
+        }
+        // Anything the writer did not get to is failed, releasing its seat, rather than left queued forever
+        List<Pending> unwritten = new ArrayList<>();
+        queue.drainTo(unwritten);
+        IllegalStateException stopped = new IllegalStateException("Registration service shut down before the registration was written");
+        unwritten.forEach(pending -> failed(pending, stopped));
+    }
+
+    private static final class Pending {
+        final String ticketId;
+        final Registration registration;
+
+        Pending(String ticketId, Registration registration) {
+            this.ticketId = ticketId;
+            this.registration = registration;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.registrationservice.service;
+
+import org.springframework.stereotype.Component;
+
+import com.example.registrationservice.dto.RegistrationDTO;
+import com.example.registrationservice.model.Registration;
+
+// Field-by-field copies between Registration and RegistrationDTO
+@Component
+public class RegistrationMapper {
+
+    public RegistrationDTO toDto(Registration reg) {
+        if (reg == null) {
+            return null;
+        }
+        return new RegistrationDTO(reg.get_Id(), reg.get_MemberId(), reg.get_EventId(), reg.get_RegistrationDate(),
+                reg.get_Status(), reg.get_MemberName(), reg.get_EventName());
+    }
+
+    public Registration toEntity(RegistrationDTO dto) {
+        if (dto == null) {
+            return null;
+        }
+        return new Registration(dto.get_Id(), dto.get_MemberId(), dto.get_EventId(), dto.get_RegistrationDate(),
+                dto.get_Status(), dto.get_MemberName(), dto.get_EventName());
+    }
+}
@@ -1,20 +1,41 @@
 package com.example.registrationservice.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import com.example.registrationservice.dto.BulkStatusUpdateDTO;
+import com.example.registrationservice.dto.NameChangeDTO;
 import com.example.registrationservice.dto.RegistrationDTO;
+import com.example.registrationservice.dto.RegistrationTicketDTO;
 
 public interface RegistrationService {
     List<RegistrationDTO> getAllRegistrations();
     Optional<RegistrationDTO> getRegistrationById(long id);
     List<RegistrationDTO> getRegistrationsByMember(long memberId);
     List<RegistrationDTO> getRegistrationsByEvent(long eventId);
+    long exportRegistrations(Long eventId, Long memberId, LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException;
     RegistrationDTO createRegistration(RegistrationDTO registrationDTO);
     Optional<RegistrationDTO> registerMemberForEvent(long memberId, long eventId);
+    RegistrationTicketDTO registerMemberForEventAsync(long memberId, long eventId);
+    Optional<RegistrationTicketDTO> getRegistrationTicket(String ticketId);
+    Map<String, Object> registerMembersForEvent(long eventId, List<Long> memberIds);
     boolean unregisterMemberFromEvent(long memberId, long eventId);
     Optional<RegistrationDTO> updateRegistrationStatus(long id, String status);
+    Map<String, Object> updateRegistrationStatuses(BulkStatusUpdateDTO request);
     void deleteRegistration(long id);
     Map<String, Object> getRegistrationStatistics();
+    Map<String, Object> getEventRegistrationStatistics(long eventId);
+    Map<Long, Map<String, Object>> getEventRegistrationStatistics(List<Long> eventIds);
+    Map<String, Object> getMemberRegistrationStatistics(long memberId);
+    Map<String, Object> getWaitlist(long eventId);
+    Optional<Map<String, Object>> getWaitlistPosition(long eventId, long memberId);
+    Map<String, Object> applyMemberRenames(List<NameChangeDTO> changes);
+    Map<String, Object> applyEventRenames(List<NameChangeDTO> changes);
+    Map<String, Object> getLookupCacheStatistics();
+    void invalidateMemberLookup(long memberId);
+    void invalidateEventLookup(long eventId);
 }
\ No newline at end of file
@@ -1,43 +1,91 @@
 package com.example.registrationservice.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClient;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.example.registrationservice.dto.BulkStatusUpdateDTO;
+import com.example.registrationservice.dto.NameChangeDTO;
 import com.example.registrationservice.dto.RegistrationDTO;
+import com.example.registrationservice.dto.RegistrationTicketDTO;
 import com.example.registrationservice.model.Registration;
+import com.example.registrationservice.model.RegistrationStatus;
 import com.example.registrationservice.repository.RegistrationRepository;
 
 @Service
 public class RegistrationServiceImpl implements RegistrationService {
 
+    private static final Logger log = LoggerFactory.getLogger(RegistrationServiceImpl.class);
+    private static final String REJECTED = "REJECTED";
+
     private final RegistrationRepository registrationRepository;
-    private final ModelMapper modelMapper;
-    private final RestClient restClient;
-    private final String memberServiceUrl = "http://localhost:8082";
-    private final String eventServiceUrl = "http://localhost:8083";
+    private final RegistrationMapper registrationMapper;
+    private final LookupClient lookupClient;
+    private final SeatCounter seatCounter;
+    private final RegistrationCounters counters;
+    private final RegistrationIngestQueue ingestQueue;
+    private final DuplicateRegistrationFilter duplicateFilter;
+    private final WaitlistRegistry waitlists;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${registration.service.bulk.max-size:1000}")
+    private int bulkMaxSize;
 
     @Autowired
-    public RegistrationServiceImpl(RegistrationRepository repo, ModelMapper mapper, RestClient client) {
+    public RegistrationServiceImpl(RegistrationRepository repo, RegistrationMapper mapper, LookupClient lookupClient, SeatCounter seatCounter,
+                                   RegistrationCounters counters, RegistrationIngestQueue ingestQueue,
+                                   DuplicateRegistrationFilter duplicateFilter, WaitlistRegistry waitlists,
+                                   PlatformTransactionManager transactionManager,
+                                   ObjectMapper objectMapper) {
         this.registrationRepository = repo;
-        this.modelMapper = mapper;
-        this.restClient = client;
+        this.registrationMapper = mapper;
+        this.lookupClient = lookupClient;
+        this.seatCounter = seatCounter;
+        this.counters = counters;
+        this.ingestQueue = ingestQueue;
+        this.duplicateFilter = duplicateFilter;
+        this.waitlists = waitlists;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
     }
 
     private RegistrationDTO toDto(Registration reg) {
-        return modelMapper.map(reg, RegistrationDTO.class);
+        return registrationMapper.toDto(reg);
     }
 
     private Registration toEntity(RegistrationDTO dto) {
-        return modelMapper.map(dto, Registration.class);
+        return registrationMapper.toEntity(dto);
     }
     
     @Override
@@ -60,53 +108,658 @@ public class RegistrationServiceImpl implements RegistrationService {
         return registrationRepository.findByEventId(eventId).stream().map(this::toDto).collect(Collectors.toList());
     }
 
+    @Override
+    public long exportRegistrations(Long eventId, Long memberId, LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException {
+        // One JSON document per line, written as rows arrive from the cursor
+        AtomicLong rows = new AtomicLong();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            registrationRepository.streamFiltered(eventId, memberId, from, to, reg -> {
+                try {
+                    objectMapper.writeValue(generator, toDto(reg));
+                    generator.writeRaw('\n');
+                    rows.incrementAndGet();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return rows.get();
+    }
+
     @Override
     public RegistrationDTO createRegistration(RegistrationDTO registrationDTO) {
-        return toDto(registrationRepository.save(toEntity(registrationDTO)));
+        Registration registration = toEntity(registrationDTO);
+        if (!SeatCounter.holdsSeat(registration.get_Status())) {
+            Registration savedReg = saveUnique(registration);
+            recordInsert(savedReg);
+            return toDto(savedReg);
+        }
+        // Direct creation takes a seat under the same rules as a signup, but is refused rather than waitlisted
+        long eventId = registration.get_EventId();
+        int capacity = capacityOf(eventId);
+        if (capacity < 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Capacity of event " + eventId + " is unavailable");
+        }
+        if (!waitlists.isEmpty(eventId) || !seatCounter.tryAcquire(eventId, capacity)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Event " + eventId + " is full");
+        }
+        boolean saved = false;
+        try {
+            Registration savedReg = saveUnique(registration);
+            saved = true;
+            recordInsert(savedReg);
+            return toDto(savedReg);
+        } finally {
+            seatCounter.complete(registration.get_EventId(), saved);
+        }
+    }
+
+    // An existing (member, event) pair hits the unique key and is reported as a conflict, not a server error
+    private Registration saveUnique(Registration registration) {
+        try {
+            return registrationRepository.save(registration);
+        } catch (DuplicateKeyException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Member " + registration.get_MemberId()
+                + " is already registered for event " + registration.get_EventId());
+        }
     }
 
     @Override
     public Optional<RegistrationDTO> registerMemberForEvent(long memberId, long eventId) {
+        Optional<Registration> prepared = prepareRegistration(memberId, eventId);
+        if (prepared.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // Save the new registration, handing the seat back if the insert fails
+        boolean holdsSeat = SeatCounter.holdsSeat(prepared.get().get_Status());
+        boolean saved = false;
         try {
-            // 1. Fetch member name from MemberService
-            Map<String, Object> member = restClient.get().uri(memberServiceUrl + "/members/" + memberId).retrieve().body(Map.class);
-            String memberName = (String) member.get("_Name");
-
-            // 2. Fetch event name from EventService
-            Map<String, Object> event = restClient.get().uri(eventServiceUrl + "/events/" + eventId).retrieve().body(Map.class);
-            String eventName = (String) event.get("_Name");
-            
-            if (memberName == null || eventName == null) return Optional.empty();
-
-            // 3. Create and save the new registration
-            Registration newReg = new Registration(0, memberId, eventId, LocalDateTime.now(), "CONFIRMED", memberName, eventName);
-            Registration savedReg = registrationRepository.save(newReg);
+            Registration savedReg = registrationRepository.save(prepared.get());
+            saved = true;
+            recordInsert(savedReg);
             return Optional.of(toDto(savedReg));
-            
-        } catch (Exception e) {
+        } catch (DuplicateKeyException e) {
+            // A concurrent request for the same pair won the race to the unique key
             return Optional.empty();
+        } finally {
+            if (holdsSeat) {
+                seatCounter.complete(eventId, saved);
+            }
         }
     }
 
+    @Override
+    public RegistrationTicketDTO registerMemberForEventAsync(long memberId, long eventId) {
+        Optional<Registration> prepared = prepareRegistration(memberId, eventId);
+        if (prepared.isEmpty()) {
+            return new RegistrationTicketDTO(null, RegistrationIngestQueue.FAILED, 0, "Member or event unavailable, or already registered");
+        }
+        Optional<RegistrationTicketDTO> ticket = ingestQueue.submit(prepared.get());
+        if (ticket.isEmpty()) {
+            // Backpressure: the seat is released and the caller is told to retry later
+            if (SeatCounter.holdsSeat(prepared.get().get_Status())) {
+                seatCounter.complete(eventId, false);
+            }
+            return new RegistrationTicketDTO(null, REJECTED, 0, "Registration queue is full");
+        }
+        return ticket.get();
+    }
+
+    @Override
+    public Optional<RegistrationTicketDTO> getRegistrationTicket(String ticketId) {
+        return ingestQueue.ticket(ticketId);
+    }
+
+    private void recordInsert(Registration reg) {
+        counters.recordInsert(reg);
+        duplicateFilter.added(reg.get_MemberId(), reg.get_EventId());
+        if (RegistrationStatus.WAITLIST.equals(reg.get_Status())) {
+            waitlists.add(reg);
+        }
+    }
+
+    private void recordDelete(Registration reg) {
+        counters.recordDelete(reg);
+        duplicateFilter.removed(reg.get_MemberId(), reg.get_EventId());
+        if (RegistrationStatus.WAITLIST.equals(reg.get_Status())) {
+            waitlists.remove(reg);
+        }
+    }
+
+    private void recordStatusChange(Registration before, String status) {
+        counters.recordStatusChange(before, status);
+        if (RegistrationStatus.WAITLIST.equals(before.get_Status())) {
+            waitlists.remove(before);
+        }
+        if (RegistrationStatus.WAITLIST.equals(status)) {
+            waitlists.add(withStatus(before, status));
+        }
+    }
+
+    // Hands freed seats to the longest-waiting members, skipping entries whose row changed underneath us
+    private void promoteFromWaitlist(long eventId, int freed) {
+        int promoted = 0;
+        while (promoted < freed) {
+            Optional<Registration> head = waitlists.poll(eventId);
+            if (head.isEmpty()) {
+                return;
+            }
+            Registration waiting = head.get();
+            seatCounter.acquireFreed(eventId);
+            boolean updated = false;
+            try {
+                updated = registrationRepository.updateStatusIfCurrent(waiting.get_Id(), RegistrationStatus.WAITLIST, RegistrationStatus.CONFIRMED);
+            } finally {
+                seatCounter.complete(eventId, updated);
+            }
+            if (updated) {
+                counters.recordStatusChange(waiting, RegistrationStatus.CONFIRMED);
+                log.info("Promoted member {} from the waitlist of event {}", waiting.get_MemberId(), eventId);
+                promoted++;
+            }
+        }
+    }
+
+    // Resolves names and claims a seat, or a waitlist place when the event is full;
+    // the caller must complete a claimed seat once the row is written
+    private Optional<Registration> prepareRegistration(long memberId, long eventId) {
+        // 0. Reject duplicates first; the filter answers most checks without a query
+        if (duplicateFilter.isRegistered(memberId, eventId)) {
+            log.info("Registration of member {} for event {} rejected: already registered", memberId, eventId);
+            return Optional.empty();
+        }
+
+        // 1. Fetch member and event concurrently, from the lookup cache when possible
+        CompletableFuture<Map<String, Object>> member = lookupClient.member(memberId);
+        CompletableFuture<Map<String, Object>> event = lookupClient.event(eventId);
+
+        // 2. Give up as soon as either lookup fails or times out instead of waiting for both
+        try {
+            awaitBoth(member, event);
+        } catch (CompletionException e) {
+            member.cancel(true);
+            event.cancel(true);
+            log.warn("Registration of member {} for event {} rejected: {}", memberId, eventId, e.getCause().toString());
+            return Optional.empty();
+        }
+        String memberName = (String) member.join().get("_Name");
+        String eventName = (String) event.join().get("_Name");
+
+        // 3. Claim a seat without touching the database; nobody jumps ahead of members already waiting
+        String status = RegistrationStatus.CONFIRMED;
+        if (!waitlists.isEmpty(eventId) || !seatCounter.tryAcquire(eventId, capacityOf(event.join()))) {
+            log.info("Event {} is full, member {} joins the waitlist", eventId, memberId);
+            status = RegistrationStatus.WAITLIST;
+        }
+        return Optional.of(new Registration(0, memberId, eventId, LocalDateTime.now(), status, memberName, eventName));
+    }
+
+    @Override
+    public Map<String, Object> registerMembersForEvent(long eventId, List<Long> memberIds) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("eventId", eventId);
+        if (memberIds == null || memberIds.isEmpty() || memberIds.size() > bulkMaxSize) {
+            response.put("error", "Between 1 and " + bulkMaxSize + " member IDs are required");
+            return response;
+        }
+
+        // 1. Fetch the event and all uncached members in one call each, concurrently
+        LinkedHashSet<Long> uniqueIds = new LinkedHashSet<>(memberIds);
+        CompletableFuture<Map<String, Object>> event = lookupClient.event(eventId);
+        CompletableFuture<Map<Long, Map<String, Object>>> members = lookupClient.members(new ArrayList<>(uniqueIds));
+        try {
+            awaitBoth(event, members);
+        } catch (CompletionException e) {
+            event.cancel(true);
+            members.cancel(true);
+            log.warn("Bulk registration for event {} rejected: {}", eventId, e.getCause().toString());
+            response.put("error", "Event or member lookup failed");
+            return response;
+        }
+        String eventName = (String) event.join().get("_Name");
+        int capacity = capacityOf(event.join());
+        Map<Long, Map<String, Object>> found = members.join();
+
+        // 2. Only members the filter cannot rule out need the existence check, done in one query
+        List<Long> candidates = uniqueIds.stream()
+                .filter(memberId -> duplicateFilter.mightBeRegistered(memberId, eventId))
+                .collect(Collectors.toList());
+        Set<Long> alreadyRegistered = new HashSet<>(registrationRepository.findMemberIdsRegisteredForEvent(eventId, candidates));
+
+        // 3. Build one row per resolvable member, recording why the others were skipped
+        LocalDateTime now = LocalDateTime.now();
+        List<Registration> toSave = new ArrayList<>();
+        boolean waitlisting = !waitlists.isEmpty(eventId);
+        int seats = 0;
+        List<Map<String, Object>> results = new ArrayList<>();
+        Map<Long, Map<String, Object>> resultsByMember = new HashMap<>();
+        for (Long memberId : memberIds) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("memberId", memberId);
+            results.add(result);
+            if (resultsByMember.putIfAbsent(memberId, result) != null) {
+                result.put("status", "SKIPPED");
+                result.put("message", "Duplicate member ID in request");
+                continue;
+            }
+            if (alreadyRegistered.contains(memberId)) {
+                result.put("status", "SKIPPED");
+                result.put("message", "Already registered");
+                continue;
+            }
+            Map<String, Object> member = found.get(memberId);
+            String memberName = member != null ? (String) member.get("_Name") : null;
+            if (memberName == null) {
+                result.put("status", "FAILED");
+                result.put("message", "Member not found");
+                continue;
+            }
+            // Once one member of the request is waitlisted, the rest queue behind them
+            String status = RegistrationStatus.CONFIRMED;
+            if (waitlisting || !seatCounter.tryAcquire(eventId, capacity)) {
+                waitlisting = true;
+                status = RegistrationStatus.WAITLIST;
+            } else {
+                seats++;
+            }
+            toSave.add(new Registration(0, memberId, eventId, now, status, memberName, eventName));
+        }
+
+        // 4. Write all rows in a single JDBC batch
+        List<Registration> written = new ArrayList<>();
+        try {
+            try {
+                written.addAll(registrationRepository.saveAll(toSave));
+            } catch (DuplicateKeyException e) {
+                // A concurrent signup took one of the pairs and the batch rolled back; write row by row instead
+                for (Registration reg : toSave) {
+                    try {
+                        written.add(registrationRepository.save(reg));
+                    } catch (DuplicateKeyException duplicate) {
+                        Map<String, Object> result = resultsByMember.get(reg.get_MemberId());
+                        result.put("status", "SKIPPED");
+                        result.put("message", "Already registered");
+                    }
+                }
+            }
+        } finally {
+            int kept = (int) written.stream().filter(reg -> SeatCounter.holdsSeat(reg.get_Status())).count();
+            for (int i = 0; i < seats; i++) {
+                seatCounter.complete(eventId, i < kept);
+            }
+        }
+        int registered = 0;
+        for (Registration reg : written) {
+            recordInsert(reg);
+            boolean waitlisted = RegistrationStatus.WAITLIST.equals(reg.get_Status());
+            registered += waitlisted ? 0 : 1;
+            Map<String, Object> result = resultsByMember.get(reg.get_MemberId());
+            result.put("status", waitlisted ? "WAITLISTED" : "CREATED");
+            result.put("registrationId", reg.get_Id());
+        }
+
+        response.put("requested", memberIds.size());
+        response.put("registered", registered);
+        response.put("waitlisted", written.size() - registered);
+        response.put("failed", memberIds.size() - written.size());
+        response.put("results", results);
+        return response;
+    }
+
+    // Events that predate the capacity column report 0, which the seat counter treats as unlimited
+    private static int capacityOf(Map<String, Object> event) {
+        Object capacity = event.get("_Capacity");
+        return capacity instanceof Number ? ((Number) capacity).intValue() : 0;
+    }
+
+    // Completes when both futures succeed, or exceptionally as soon as the first one fails
+    private static void awaitBoth(CompletableFuture<?> first, CompletableFuture<?> second) {
+        CompletableFuture<Object> firstFailure = new CompletableFuture<>();
+        first.whenComplete((result, ex) -> { if (ex != null) firstFailure.completeExceptionally(ex); });
+        second.whenComplete((result, ex) -> { if (ex != null) firstFailure.completeExceptionally(ex); });
+        CompletableFuture.anyOf(CompletableFuture.allOf(first, second), firstFailure).join();
+    }
+
     @Override
     public boolean unregisterMemberFromEvent(long memberId, long eventId) {
-        return registrationRepository.deleteByMemberIdAndEventId(memberId, eventId) > 0;
+        Optional<Registration> existing = registrationRepository.findByMemberIdAndEventId(memberId, eventId);
+        int seats = existing.filter(reg -> SeatCounter.holdsSeat(reg.get_Status())).isPresent() ? 1 : 0;
+        seatCounter.beginRelease(eventId);
+        int deleted = 0;
+        try {
+            deleted = registrationRepository.deleteByMemberIdAndEventId(memberId, eventId);
+        } finally {
+            seatCounter.endRelease(eventId, deleted > 0 ? seats : 0);
+        }
+        if (deleted > 0) {
+            existing.ifPresent(this::recordDelete);
+            promoteFromWaitlist(eventId, seats);
+        }
+        return deleted > 0;
     }
 
     @Override
     public Optional<RegistrationDTO> updateRegistrationStatus(long id, String status) {
-        return registrationRepository.updateStatus(id, status).map(this::toDto);
+        Optional<Registration> existing = registrationRepository.findById(id);
+        if (existing.isEmpty()) {
+            return Optional.empty();
+        }
+        Registration before = existing.get();
+        if (!RegistrationStatus.canTransition(before.get_Status(), status)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                "Illegal status transition " + before.get_Status() + " -> " + status);
+        }
+
+        boolean takesSeat = SeatCounter.holdsSeat(status) && !SeatCounter.holdsSeat(before.get_Status());
+        Map<Long, Integer> capacities = takesSeat ? capacitiesOf(List.of(before.get_EventId())) : Map.of();
+
+        // The row we already hold is the result, so no second SELECT is needed after the update
+        Map<Registration, String> refused = new HashMap<>();
+        Map<Long, int[]> seatChanges = beginSeatChanges(new ArrayList<>(List.of(before)), status, capacities, refused);
+        if (!refused.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, refused.get(before));
+        }
+        boolean updated = false;
+        try {
+            updated = registrationRepository.updateStatusIfCurrent(id, before.get_Status(), status);
+        } finally {
+            endSeatChanges(seatChanges, updated);
+        }
+        if (!updated) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Registration " + id + " was changed concurrently");
+        }
+        // Fill a freed seat before this row joins the waitlist, so it cannot be promoted straight back
+        seatChanges.forEach((eventId, counts) -> promoteFromWaitlist(eventId, counts[1]));
+        recordStatusChange(before, status);
+        return Optional.of(toDto(withStatus(before, status)));
+    }
+
+    @Override
+    public Map<String, Object> updateRegistrationStatuses(BulkStatusUpdateDTO request) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        String target = request.get_TargetStatus();
+        List<Long> ids = request.get_Ids();
+        response.put("targetStatus", target);
+        if (!RegistrationStatus.isKnown(target)) {
+            response.put("error", "Unknown status " + target);
+            return response;
+        }
+        if (request.get_EventId() == null && (ids == null || ids.isEmpty())) {
+            response.put("error", "An event ID or a list of registration IDs is required");
+            return response;
+        }
+        if (ids != null && ids.size() > bulkMaxSize) {
+            response.put("error", "At most " + bulkMaxSize + " registration IDs are allowed");
+            return response;
+        }
+
+        // Capacities come from EventService before any row is locked, so a slow lookup never holds the locks
+        Map<Long, Integer> capacities = SeatCounter.holdsSeat(target)
+                ? capacitiesOf(registrationRepository.findEventIdsForStatusUpdate(request.get_EventId(), request.get_CurrentStatus(), ids))
+                : Map.of();
+
+        // Lock the matching rows, split them by the state machine, then move the legal ones in one UPDATE
+        List<Registration> moved = new ArrayList<>();
+        List<Map<String, Object>> skipped = new ArrayList<>();
+        List<Map<String, Object>> failed = new ArrayList<>();
+        Map<Long, int[]> seatChanges = new HashMap<>();
+        boolean applied = false;
+        try {
+            transactionTemplate.executeWithoutResult(tx -> {
+                List<Registration> rows = registrationRepository.findForStatusUpdate(request.get_EventId(), request.get_CurrentStatus(), ids);
+                Set<Long> matched = new HashSet<>();
+                for (Registration row : rows) {
+                    matched.add(row.get_Id());
+                    if (RegistrationStatus.canTransition(row.get_Status(), target)) {
+                        moved.add(row);
+                    } else {
+                        skipped.add(skip(row.get_Id(), row.get_Status(), "Illegal transition " + row.get_Status() + " -> " + target));
+                    }
+                }
+                if (ids != null) {
+                    ids.stream().distinct().filter(id -> !matched.contains(id))
+                            .forEach(id -> skipped.add(skip(id, null, "Not found or excluded by filter")));
+                }
+                Map<Registration, String> refused = new LinkedHashMap<>();
+                seatChanges.putAll(beginSeatChanges(moved, target, capacities, refused));
+                refused.forEach((row, reason) -> failed.add(skip(row.get_Id(), row.get_Status(), reason)));
+                registrationRepository.updateStatusByIds(moved.stream().map(Registration::get_Id).collect(Collectors.toList()), target);
+            });
+            applied = true;
+        } finally {
+            endSeatChanges(seatChanges, applied);
+        }
+        moved.stream().filter(row -> RegistrationStatus.WAITLIST.equals(row.get_Status()))
+                .forEach(row -> recordStatusChange(row, target));
+        seatChanges.forEach((eventId, counts) -> promoteFromWaitlist(eventId, counts[1]));
+        moved.stream().filter(row -> !RegistrationStatus.WAITLIST.equals(row.get_Status()))
+                .forEach(row -> recordStatusChange(row, target));
+
+        response.put("updated", moved.size());
+        response.put("skippedCount", skipped.size());
+        response.put("skipped", skipped);
+        response.put("failedCount", failed.size());
+        response.put("failed", failed);
+        return response;
+    }
+
+    private static Map<String, Object> skip(long id, String status, String reason) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("id", id);
+        entry.put("status", status);
+        entry.put("reason", reason);
+        return entry;
+    }
+
+    // Per event, how many rows gain a seat ([0]) and how many give one up ([1]) by moving to the target status.
+    // Rows that would take a seat the event does not have, or take it ahead of its waitlist, are removed
+    // from rows and returned in refused with the reason. Events missing from capacities count as unavailable
+    private Map<Long, int[]> beginSeatChanges(List<Registration> rows, String target, Map<Long, Integer> capacities,
+                                              Map<Registration, String> refused) {
+        Map<Long, int[]> changes = new HashMap<>();
+        boolean holdsSeat = SeatCounter.holdsSeat(target);
+        Iterator<Registration> candidates = rows.iterator();
+        while (candidates.hasNext()) {
+            Registration row = candidates.next();
+            long eventId = row.get_EventId();
+            if (SeatCounter.holdsSeat(row.get_Status()) == holdsSeat) {
+                continue;
+            }
+            if (holdsSeat) {
+                String reason = null;
+                int capacity = capacities.getOrDefault(eventId, -1);
+                if (capacity < 0) {
+                    reason = "Capacity of event " + eventId + " is unavailable";
+                } else if (!RegistrationStatus.WAITLIST.equals(row.get_Status()) && !waitlists.isEmpty(eventId)) {
+                    // Waitlisted members are promoted in order; anyone else queues behind them
+                    reason = "Event " + eventId + " has members on its waitlist";
+                } else if (!seatCounter.tryAcquire(eventId, capacity)) {
+                    reason = "Event " + eventId + " is full";
+                }
+                if (reason != null) {
+                    candidates.remove();
+                    refused.put(row, reason);
+                    continue;
+                }
+            }
+            int[] counts = changes.computeIfAbsent(eventId, id -> new int[2]);
+            if (holdsSeat) {
+                counts[0]++;
+            } else if (counts[1]++ == 0) {
+                seatCounter.beginRelease(eventId);
+            }
+        }
+        return changes;
+    }
+
+    // The event's capacity, or -1 when it cannot be looked up
+    private int capacityOf(long eventId) {
+        return capacitiesOf(List.of(eventId)).get(eventId);
+    }
+
+    // Capacities of the events, looked up concurrently; -1 for an event whose lookup fails
+    private Map<Long, Integer> capacitiesOf(Collection<Long> eventIds) {
+        Map<Long, CompletableFuture<Map<String, Object>>> lookups = new HashMap<>();
+        eventIds.forEach(eventId -> lookups.put(eventId, lookupClient.event(eventId)));
+        Map<Long, Integer> capacities = new HashMap<>();
+        lookups.forEach((eventId, lookup) -> {
+            try {
+                capacities.put(eventId, capacityOf(lookup.join()));
+            } catch (CompletionException e) {
+                log.warn("Capacity lookup for event {} failed: {}", eventId, e.getCause().toString());
+                capacities.put(eventId, -1);
+            }
+        });
+        return capacities;
+    }
+
+    private void endSeatChanges(Map<Long, int[]> changes, boolean applied) {
+        changes.forEach((eventId, counts) -> {
+            for (int i = 0; i < counts[0]; i++) {
+                seatCounter.complete(eventId, applied);
+            }
+            if (counts[1] > 0) {
+                seatCounter.endRelease(eventId, applied ? counts[1] : 0);
+            }
+        });
+    }
+
+    private static Registration withStatus(Registration reg, String status) {
+        return new Registration(reg.get_Id(), reg.get_MemberId(), reg.get_EventId(), reg.get_RegistrationDate(),
+                status, reg.get_MemberName(), reg.get_EventName());
     }
 
     @Override
     public void deleteRegistration(long id) {
-        registrationRepository.deleteById(id);
+        Optional<Registration> existing = registrationRepository.findById(id);
+        if (existing.isEmpty()) {
+            registrationRepository.deleteById(id);
+            return;
+        }
+        Registration before = existing.get();
+        boolean heldSeat = SeatCounter.holdsSeat(before.get_Status());
+        if (heldSeat) {
+            seatCounter.beginRelease(before.get_EventId());
+        }
+        boolean deleted = false;
+        try {
+            registrationRepository.deleteById(id);
+            deleted = true;
+        } finally {
+            if (heldSeat) {
+                seatCounter.endRelease(before.get_EventId(), deleted ? 1 : 0);
+            }
+        }
+        recordDelete(before);
+        if (heldSeat) {
+            promoteFromWaitlist(before.get_EventId(), 1);
+        }
+    }
+
+    @Override
+    public Map<String, Object> getEventRegistrationStatistics(long eventId) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("eventId", eventId);
+        stats.putAll(counters.forEvent(eventId));
+        return stats;
+    }
+
+    @Override
+    public Map<Long, Map<String, Object>> getEventRegistrationStatistics(List<Long> eventIds) {
+        if (eventIds == null || eventIds.isEmpty() || eventIds.size() > bulkMaxSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Between 1 and " + bulkMaxSize + " event IDs are required");
+        }
+        return counters.forEvents(eventIds);
+    }
+
+    @Override
+    public Map<String, Object> getMemberRegistrationStatistics(long memberId) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("memberId", memberId);
+        stats.putAll(counters.forMember(memberId));
+        return stats;
+    }
+
+    @Override
+    public Map<String, Object> getWaitlist(long eventId) {
+        Map<String, Object> waitlist = new LinkedHashMap<>();
+        waitlist.put("eventId", eventId);
+        waitlist.put("size", waitlists.size(eventId));
+        return waitlist;
+    }
+
+    @Override
+    public Optional<Map<String, Object>> getWaitlistPosition(long eventId, long memberId) {
+        return waitlists.position(eventId, memberId).map(position -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("eventId", eventId);
+            entry.put("memberId", memberId);
+            entry.put("position", position);
+            entry.put("size", waitlists.size(eventId));
+            return entry;
+        });
+    }
+
+    @Override
+    public Map<String, Object> applyMemberRenames(List<NameChangeDTO> changes) {
+        Map<Long, String> names = latestNames(changes);
+        int updated = registrationRepository.updateMemberNames(names);
+        names.keySet().forEach(lookupClient::invalidateMember);
+        return renameResult(names.size(), updated);
+    }
+
+    @Override
+    public Map<String, Object> applyEventRenames(List<NameChangeDTO> changes) {
+        Map<Long, String> names = latestNames(changes);
+        int updated = registrationRepository.updateEventNames(names);
+        names.keySet().forEach(lookupClient::invalidateEvent);
+        return renameResult(names.size(), updated);
+    }
+
+    // Later entries win, matching the order the outbox relay sends them in
+    private static Map<Long, String> latestNames(List<NameChangeDTO> changes) {
+        Map<Long, String> names = new LinkedHashMap<>();
+        if (changes != null) {
+            changes.stream().filter(change -> change.get_Name() != null)
+                    .forEach(change -> names.put(change.get_Id(), change.get_Name()));
+        }
+        return names;
+    }
+
+    private static Map<String, Object> renameResult(int renamed, int updated) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("renamed", renamed);
+        result.put("updatedRegistrations", updated);
+        return result;
+    }
+
+    @Override
+    public Map<String, Object> getLookupCacheStatistics() {
+        return lookupClient.getStatistics();
+    }
+
+    @Override
+    public void invalidateMemberLookup(long memberId) {
+        lookupClient.invalidateMember(memberId);
+    }
+
+    @Override
+    public void invalidateEventLookup(long eventId) {
+        lookupClient.invalidateEvent(eventId);
     }
 
     @Override
     public Map<String, Object> getRegistrationStatistics() {
+        Map<String, Object> overall = counters.overall();
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalRegistrations", registrationRepository.count());
+        stats.put("totalRegistrations", overall.get("total"));
+        stats.put("activeRegistrations", overall.get("count"));
+        stats.put("byStatus", overall.get("byStatus"));
         return stats;
     }
 }
\ No newline at end of file
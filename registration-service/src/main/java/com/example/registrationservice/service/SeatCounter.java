@@ -0,0 +1,147 @@
+package com.example.registrationservice.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.registrationservice.model.RegistrationStatus;
+import com.example.registrationservice.repository.RegistrationRepository;
+
+/**
+ * In-memory seat counts per event. Seats are claimed with a CAS loop, so a popular event
+ * never serializes signups on a database row or runs a count(*) per request.
+ * Counts are loaded lazily per event and reconciled against the registrations table.
+ */
+@Component
+public class SeatCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatCounter.class);
+
+    private final RegistrationRepository registrationRepository;
+    private final ConcurrentHashMap<Long, Seats> seatsByEvent = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SeatCounter(RegistrationRepository registrationRepository) {
+        this.registrationRepository = registrationRepository;
+    }
+
+    // Claims a seat unless the event is full; a capacity of 0 or less means unlimited
+    public boolean tryAcquire(long eventId, int capacity) {
+        int limit = capacity > 0 ? capacity : Integer.MAX_VALUE;
+        Seats seats = seats(eventId);
+        seats.pending.incrementAndGet();
+        seats.changes.incrementAndGet();
+        while (true) {
+            int taken = seats.taken.get();
+            if (taken >= limit) {
+                seats.pending.decrementAndGet();
+                seats.changes.incrementAndGet();
+                return false;
+            }
+            if (seats.taken.compareAndSet(taken, taken + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // Claims a seat without a capacity check, for a waitlisted member moving into a seat just freed
+    public void acquireFreed(long eventId) {
+        Seats seats = seats(eventId);
+        seats.pending.incrementAndGet();
+        seats.changes.incrementAndGet();
+        seats.taken.incrementAndGet();
+    }
+
+    // Ends an acquire once the insert has committed (kept) or failed (released again)
+    public void complete(long eventId, boolean kept) {
+        Seats seats = seats(eventId);
+        if (!kept) {
+            seats.taken.decrementAndGet();
+        }
+        seats.pending.decrementAndGet();
+        seats.changes.incrementAndGet();
+    }
+
+    // Brackets a delete or cancellation so reconciliation never races with it
+    public void beginRelease(long eventId) {
+        Seats seats = seats(eventId);
+        seats.pending.incrementAndGet();
+        seats.changes.incrementAndGet();
+    }
+
+    public void endRelease(long eventId, int freed) {
+        Seats seats = seats(eventId);
+        if (freed > 0) {
+            seats.taken.addAndGet(-freed);
+        }
+        seats.pending.decrementAndGet();
+        seats.changes.incrementAndGet();
+    }
+
+    // Mirrors the seat rule used by the reconciliation query
+    public static boolean holdsSeat(String status) {
+        return !RegistrationStatus.CANCELLED.equals(status) && !RegistrationStatus.WAITLIST.equals(status);
+    }
+
+    public int seatsTaken(long eventId) {
+        return seats(eventId).taken.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${registration.service.capacity.reconcile-interval:60000}",
+               initialDelayString = "${registration.service.capacity.reconcile-interval:60000}")
+    public void reconcile() {
+        // Only events that were quiet for the whole query are corrected, so in-flight
+        // signups are never overwritten by a snapshot that does not include them yet
+        Map<Long, long[]> before = new HashMap<>();
+        seatsByEvent.forEach((eventId, seats) -> {
+            if (seats.pending.get() == 0) {
+                before.put(eventId, new long[] { seats.changes.get(), seats.taken.get() });
+            }
+        });
+        Map<Long, Long> counts;
+        try {
+            counts = registrationRepository.countSeatsTakenByEvent();
+        } catch (RuntimeException e) {
+            log.warn("Seat reconciliation skipped: {}", e.toString());
+            return;
+        }
+        counts.forEach((eventId, count) -> seatsByEvent.putIfAbsent(eventId, new Seats(count.intValue())));
+        before.forEach((eventId, snapshot) -> {
+            Seats seats = seatsByEvent.get(eventId);
+            int actual = counts.getOrDefault(eventId, 0L).intValue();
+            if (seats.pending.get() == 0 && seats.changes.get() == snapshot[0]
+                    && seats.taken.compareAndSet((int) snapshot[1], actual) && actual != snapshot[1]) {
+                log.info("Seat count for event {} corrected from {} to {}", eventId, snapshot[1], actual);
+            }
+        });
+    }
+
+    private Seats seats(long eventId) {
+        Seats seats = seatsByEvent.get(eventId);
+        if (seats != null) {
+            return seats;
+        }
+        return seatsByEvent.computeIfAbsent(eventId, id -> new Seats((int) registrationRepository.countSeatsTaken(id)));
+    }
+
+    private static final class Seats {
+        final AtomicInteger taken;
+        final AtomicInteger pending = new AtomicInteger();
+        final AtomicLong changes = new AtomicLong();
+
+        Seats(int taken) {
+            this.taken = new AtomicInteger(taken);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.registrationservice.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.example.registrationservice.model.Registration;
+import com.example.registrationservice.model.RegistrationStatus;
+import com.example.registrationservice.repository.RegistrationRepository;
+
+/**
+ * FIFO waitlists per event, mirroring the WAITLIST rows in the registrations table.
+ * Each event's line is loaded lazily and kept in a Fenwick tree over arrival slots,
+ * so "where am I in line" and "who is next" are both O(log n).
+ */
+@Component
+public class WaitlistRegistry {
+
+    private final RegistrationRepository registrationRepository;
+    private final ConcurrentHashMap<Long, WaitlistQueue> queues = new ConcurrentHashMap<>();
+
+    @Autowired
+    public WaitlistRegistry(RegistrationRepository registrationRepository) {
+        this.registrationRepository = registrationRepository;
+    }
+
+    public void add(Registration reg) {
+        queue(reg.get_EventId()).add(reg);
+    }
+
+    public void remove(Registration reg) {
+        queue(reg.get_EventId()).remove(reg.get_MemberId());
+    }
+
+    public boolean isEmpty(long eventId) {
+        return queue(eventId).size() == 0;
+    }
+
+    public int size(long eventId) {
+        return queue(eventId).size();
+    }
+
+    // 1-based place in line, or empty when the member is not waiting for this event
+    public Optional<Integer> position(long eventId, long memberId) {
+        int position = queue(eventId).position(memberId);
+        return position > 0 ? Optional.of(position) : Optional.empty();
+    }
+
+    public Optional<Registration> poll(long eventId) {
+        return Optional.ofNullable(queue(eventId).poll());
+    }
+
+    private WaitlistQueue queue(long eventId) {
+        WaitlistQueue queue = queues.get(eventId);
+        if (queue != null) {
+            return queue;
+        }
+        return queues.computeIfAbsent(eventId, id -> {
+            WaitlistQueue loaded = new WaitlistQueue();
+            registrationRepository.findByEventIdAndStatus(id, RegistrationStatus.WAITLIST).forEach(loaded::add);
+            return loaded;
+        });
+    }
+
+    static final class WaitlistQueue {
+        private Registration[] slots = new Registration[16];
+        private int[] tree = new int[17];
+        private int next;
+        private int live;
+        private final Map<Long, Integer> slotByMember = new HashMap<>();
+
+        synchronized void add(Registration reg) {
+            if (slotByMember.containsKey(reg.get_MemberId())) {
+                return;
+            }
+            if (next == slots.length) {
+                compactOrGrow();
+            }
+            slots[next] = reg;
+            slotByMember.put(reg.get_MemberId(), next);
+            update(next, 1);
+            next++;
+            live++;
+        }
+
+        synchronized void remove(long memberId) {
+            Integer slot = slotByMember.remove(memberId);
+            if (slot != null) {
+                slots[slot] = null;
+                update(slot, -1);
+                live--;
+            }
+        }
+
+        synchronized int size() {
+            return live;
+        }
+
+        synchronized int position(long memberId) {
+            Integer slot = slotByMember.get(memberId);
+            return slot != null ? prefixSum(slot) : 0;
+        }
+
+        synchronized Registration poll() {
+            if (live == 0) {
+                return null;
+            }
+            int slot = findByRank(1);
+            Registration head = slots[slot];
+            remove(head.get_MemberId());
+            return head;
+        }
+
+        // Fenwick tree over slots: 1 for a waiting member, 0 for a vacated slot
+        private void update(int slot, int delta) {
+            for (int i = slot + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        private int prefixSum(int slot) {
+            int sum = 0;
+            for (int i = slot + 1; i > 0; i -= i & -i) {
+                sum += tree[i];
+            }
+            return sum;
+        }
+
+        // Smallest slot whose prefix sum reaches rank
+        private int findByRank(int rank) {
+            int pos = 0;
+            for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+                if (pos + step < tree.length && tree[pos + step] < rank) {
+                    pos += step;
+                    rank -= tree[pos];
+                }
+            }
+            return pos;
+        }
+
+        // Drops vacated slots while keeping arrival order, doubling the capacity when still mostly full
+        private void compactOrGrow() {
+            Registration[] waiting = Arrays.stream(slots, 0, next).filter(reg -> reg != null).toArray(Registration[]::new);
+            int capacity = waiting.length * 2 > slots.length ? slots.length * 2 : slots.length;
+            slots = new Registration[capacity];
+            tree = new int[capacity + 1];
+            slotByMember.clear();
+            next = 0;
+            live = 0;
+            for (Registration reg : waiting) {
+                slots[next] = reg;
+                slotByMember.put(reg.get_MemberId(), next);
+                update(next, 1);
+                next++;
+                live++;
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.registrationservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.function.BiConsumer;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.registrationservice.repository.RegistrationRepository;
+
+class DuplicateRegistrationFilterTest {
+
+    @Test
+    void neverForgetsAnAddedPair() {
+        DuplicateRegistrationFilter.CountingBloomFilter filter = new DuplicateRegistrationFilter.CountingBloomFilter(10_000, 0.01);
+        for (long member = 1; member <= 10_000; member++) {
+            filter.add(member, member % 97);
+        }
+        for (long member = 1; member <= 10_000; member++) {
+            assertTrue(filter.mightContain(member, member % 97));
+        }
+    }
+
+    @Test
+    void falsePositivesStayNearTheConfiguredRate() {
+        DuplicateRegistrationFilter.CountingBloomFilter filter = new DuplicateRegistrationFilter.CountingBloomFilter(10_000, 0.01);
+        for (long member = 1; member <= 10_000; member++) {
+            filter.add(member, 1);
+        }
+        int falsePositives = 0;
+        for (long member = 1; member <= 100_000; member++) {
+            if (filter.mightContain(member, 2)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void removalKeepsPairsThatShareCounters() {
+        DuplicateRegistrationFilter.CountingBloomFilter filter = new DuplicateRegistrationFilter.CountingBloomFilter(1_000, 0.01);
+        filter.add(1, 1);
+        filter.add(2, 1);
+        filter.add(2, 1);
+
+        filter.remove(1, 1);
+        filter.remove(2, 1);
+
+        assertFalse(filter.mightContain(1, 1));
+        assertTrue(filter.mightContain(2, 1));
+    }
+
+    @Test
+    void saturatedCountersAreNeverDecremented() {
+        DuplicateRegistrationFilter.CountingBloomFilter filter = new DuplicateRegistrationFilter.CountingBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 20; i++) {
+            filter.add(5, 5);
+        }
+        for (int i = 0; i < 20; i++) {
+            filter.remove(5, 5);
+        }
+        assertTrue(filter.mightContain(5, 5));
+    }
+
+    @Test
+    void asksTheDatabaseUntilTheFirstRebuild() {
+        RegistrationRepository repository = mock(RegistrationRepository.class);
+        when(repository.existsByMemberIdAndEventId(1, 1)).thenReturn(false);
+        DuplicateRegistrationFilter duplicates = new DuplicateRegistrationFilter(repository, 1_000, 0.01);
+
+        assertFalse(duplicates.isRegistered(1, 1));
+        assertTrue(duplicates.mightBeRegistered(1, 1));
+        verify(repository).existsByMemberIdAndEventId(1, 1);
+    }
+
+    @Test
+    void skipsTheDatabaseForPairsTheFilterHasNotSeen() {
+        RegistrationRepository repository = mock(RegistrationRepository.class);
+        doAnswer(invocation -> {
+            BiConsumer<Long, Long> consumer = invocation.getArgument(0);
+            consumer.accept(1L, 1L);
+            return null;
+        }).when(repository).forEachMemberEventPair(any());
+        when(repository.existsByMemberIdAndEventId(1, 1)).thenReturn(true);
+        DuplicateRegistrationFilter duplicates = new DuplicateRegistrationFilter(repository, 1_000, 0.01);
+        duplicates.rebuild();
+
+        assertTrue(duplicates.isRegistered(1, 1));
+        assertFalse(duplicates.isRegistered(2, 9));
+        duplicates.added(2, 9);
+        assertTrue(duplicates.mightBeRegistered(2, 9));
+        duplicates.removed(2, 9);
+        assertFalse(duplicates.mightBeRegistered(2, 9));
+        verify(repository, never()).existsByMemberIdAndEventId(2, 9);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.registrationservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import com.example.registrationservice.dto.RegistrationDTO;
+import com.example.registrationservice.model.Registration;
+import com.example.registrationservice.model.RegistrationStatus;
+
+// RegistrationMapper must copy exactly what ModelMapper used to copy, names included
+class RegistrationMapperTest {
+
+    private static final LocalDateTime REGISTERED = LocalDateTime.of(2026, 3, 14, 9, 30);
+
+    private final RegistrationMapper mapper = new RegistrationMapper();
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    @Test
+    void toDtoMatchesModelMapper() {
+        Registration registration = new Registration(5, 12, 40, REGISTERED, RegistrationStatus.WAITLIST, "Ada Lovelace", "Spring Gala");
+
+        RegistrationDTO expected = modelMapper.map(registration, RegistrationDTO.class);
+        RegistrationDTO actual = mapper.toDto(registration);
+
+        assertEquals(expected.get_Id(), actual.get_Id());
+        assertEquals(expected.get_MemberId(), actual.get_MemberId());
+        assertEquals(expected.get_EventId(), actual.get_EventId());
+        assertEquals(expected.get_RegistrationDate(), actual.get_RegistrationDate());
+        assertEquals(expected.get_Status(), actual.get_Status());
+        assertEquals(expected.get_MemberName(), actual.get_MemberName());
+        assertEquals(expected.get_EventName(), actual.get_EventName());
+    }
+
+    @Test
+    void toEntityMatchesModelMapper() {
+        RegistrationDTO dto = new RegistrationDTO(5, 12, 40, REGISTERED, RegistrationStatus.WAITLIST, "Ada Lovelace", "Spring Gala");
+
+        Registration expected = modelMapper.map(dto, Registration.class);
+        Registration actual = mapper.toEntity(dto);
+
+        assertEquals(expected.get_Id(), actual.get_Id());
+        assertEquals(expected.get_MemberId(), actual.get_MemberId());
+        assertEquals(expected.get_EventId(), actual.get_EventId());
+        assertEquals(expected.get_RegistrationDate(), actual.get_RegistrationDate());
+        assertEquals(expected.get_Status(), actual.get_Status());
+        assertEquals(expected.get_MemberName(), actual.get_MemberName());
+        assertEquals(expected.get_EventName(), actual.get_EventName());
+    }
+
+    @Test
+    void nullMapsToNull() {
+        assertNull(mapper.toDto(null));
+        assertNull(mapper.toEntity(null));
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.registrationservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.registrationservice.model.Registration;
+import com.example.registrationservice.model.RegistrationStatus;
+import com.example.registrationservice.repository.RegistrationRepository;
+
+class WaitlistRegistryTest {
+
+    private static final long EVENT_ID = 40;
+
+    @Test
+    void pollsInArrivalOrder() {
+        WaitlistRegistry.WaitlistQueue queue = new WaitlistRegistry.WaitlistQueue();
+        queue.add(waiting(1));
+        queue.add(waiting(2));
+        queue.add(waiting(3));
+
+        assertEquals(1, queue.poll().get_MemberId());
+        assertEquals(2, queue.poll().get_MemberId());
+        assertEquals(3, queue.poll().get_MemberId());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void positionsCloseUpWhenSomeoneLeaves() {
+        WaitlistRegistry.WaitlistQueue queue = new WaitlistRegistry.WaitlistQueue();
+        for (long member = 1; member <= 5; member++) {
+            queue.add(waiting(member));
+        }
+
+        queue.remove(2);
+
+        assertEquals(1, queue.position(1));
+        assertEquals(0, queue.position(2));
+        assertEquals(2, queue.position(3));
+        assertEquals(4, queue.position(5));
+        assertEquals(4, queue.size());
+    }
+
+    @Test
+    void ignoresAMemberAlreadyInLine() {
+        WaitlistRegistry.WaitlistQueue queue = new WaitlistRegistry.WaitlistQueue();
+        queue.add(waiting(1));
+        queue.add(waiting(2));
+        queue.add(waiting(1));
+
+        assertEquals(2, queue.size());
+        assertEquals(1, queue.position(1));
+    }
+
+    @Test
+    void keepsOrderThroughCompactionAndGrowth() {
+        WaitlistRegistry.WaitlistQueue queue = new WaitlistRegistry.WaitlistQueue();
+        List<Long> expected = new ArrayList<>();
+        Random random = new Random(7);
+        long nextMember = 1;
+        // Far more arrivals than the initial 16 slots, with leavers and promotions mixed in
+        for (int step = 0; step < 2_000; step++) {
+            int action = random.nextInt(4);
+            if (action < 2 || expected.isEmpty()) {
+                queue.add(waiting(nextMember));
+                expected.add(nextMember++);
+            } else if (action == 2) {
+                Long leaver = expected.remove(random.nextInt(expected.size()));
+                queue.remove(leaver);
+            } else {
+                assertEquals(expected.remove(0).longValue(), queue.poll().get_MemberId());
+            }
+            assertEquals(expected.size(), queue.size());
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i + 1, queue.position(expected.get(i)));
+        }
+    }
+
+    @Test
+    void loadsAnEventsLineOnceFromTheDatabase() {
+        RegistrationRepository repository = mock(RegistrationRepository.class);
+        when(repository.findByEventIdAndStatus(EVENT_ID, RegistrationStatus.WAITLIST))
+                .thenReturn(List.of(waiting(8), waiting(9)));
+        WaitlistRegistry registry = new WaitlistRegistry(repository);
+
+        assertEquals(Optional.of(2), registry.position(EVENT_ID, 9));
+        registry.add(waiting(10));
+
+        assertEquals(3, registry.size(EVENT_ID));
+        assertEquals(8, registry.poll(EVENT_ID).get().get_MemberId());
+        assertTrue(registry.position(EVENT_ID, 8).isEmpty());
+        verify(repository, times(1)).findByEventIdAndStatus(EVENT_ID, RegistrationStatus.WAITLIST);
+    }
+
+    private static Registration waiting(long memberId) {
+        return new Registration(memberId * 100, memberId, EVENT_ID, LocalDateTime.of(2026, 1, 1, 12, 0),
+                RegistrationStatus.WAITLIST, null, null);
+    }
+}